@@ -51,10 +51,25 @@ export interface StatsResponse {
 export interface BlogPost {
   id: number;
   title: string;
-  content: string;
+  contentHtml: string;
   category?: string;
   imageUrl?: string;
   createdDate: string;
+  readingMinutes?: number;
+}
+export interface BlogSource {
+  id: number;
+  title: string;
+  content: string;
+  category?: string;
+}
+export interface BlogSummary {
+  id: number;
+  title: string;
+  category?: string;
+  createdDate: string;
+  excerpt: string;
+  readingMinutes?: number;
 }
 export interface PaginatedResponse<T> {
   content: T[];
@@ -134,7 +149,7 @@ export const api = {
     sendMessage: (data: SendMailRequest) => client.post('/contact', data),
   },
   projects: {
-    getAll: (pageNo = 1, pageSize = 10) => client.get<GithubRepoResponse[]>((`/projects?pageNo=${pageNo}&pageSize=${pageSize}`)).then((res) => res.data),
+    getAll: (pageNo = 1, pageSize = 10) => client.get<PaginatedResponse<GithubRepoResponse>>((`/projects?pageNo=${pageNo}&pageSize=${pageSize}`)).then((res) => res.data.content),
   },
   pinnedProjects: {
     getAll: () => client.get<PinnedProject[]>('/pinned-projects').then((res) => res.data),
@@ -146,7 +161,9 @@ export const api = {
     getCurrent: () => client.get<StatsResponse>('/stats/current').then((res) => res.data),
   },
   blogs: {
-    getAll: (pageNo = 1, pageSize = 10) => client.get<PaginatedResponse<BlogPost>>((`/blogs?pageNo=${pageNo}&pageSize=${pageSize}`)).then((res) => res.data),
+    getAll: (pageNo = 1, pageSize = 10) => client.get<PaginatedResponse<BlogSummary>>((`/blogs?pageNo=${pageNo}&pageSize=${pageSize}`)).then((res) => res.data),
+    getById: (id: number) => client.get<BlogPost>(`/blogs/${id}`).then((res) => res.data),
+    getSource: (id: number) => client.get<BlogSource>(`/blogs/${id}/source`).then((res) => res.data),
     add: (data: { title: string; content: string; category?: string }) => client.post('/blogs', data),
     update: (id: number, data: { title: string; content: string; category?: string }) => client.put((`/blogs/${id}`), data),
     delete: (id: number) => client.delete((`/blogs/${id}`)),
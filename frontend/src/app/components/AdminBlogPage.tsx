@@ -11,7 +11,7 @@ import {
   SelectTrigger,
   SelectValue,
 } from "@/app/components/ui/select";
-import { api, BlogPost, PinnedProject, GithubRepoResponse, TechStackResponse } from "@/app/api"; // Added PinnedProject
+import { api, BlogSummary, PinnedProject, GithubRepoResponse, TechStackResponse } from "@/app/api"; // Added PinnedProject
 import { Trash2, Plus, LogOut, FileText, ChevronLeft, Edit, Layers, ArrowRight, Code } from "lucide-react"; // Added Layers
 import { toast } from "sonner";
 import { ContentRenderer } from "./ContentRenderer";
@@ -27,7 +27,7 @@ export function AdminBlogPage() {
   const setActiveTab = (tab: string) => setSearchParams({ tab });
 
   // Blog State
-  const [blogs, setBlogs] = useState<BlogPost[]>([]);
+  const [blogs, setBlogs] = useState<BlogSummary[]>([]);
   const [currentPage, setCurrentPage] = useState(1);
   const [totalPages, setTotalPages] = useState(0);
   const [title, setTitle] = useState("");
@@ -290,12 +290,17 @@ export function AdminBlogPage() {
        }
   };
 
-  const handleEditClick = (blog: BlogPost) => {
-    setTitle(blog.title);
-    setContent(blog.content);
-    setBlogCategory(blog.category || "");
-    setEditingId(blog.id);
-    setIsAddingNew(true);
+  const handleEditClick = async (blog: BlogSummary) => {
+    try {
+      const full = await api.blogs.getSource(blog.id);
+      setTitle(full.title);
+      setContent(full.content);
+      setBlogCategory(full.category || "");
+      setEditingId(full.id);
+      setIsAddingNew(true);
+    } catch (error) {
+      console.error("Failed to fetch blog post", error);
+    }
   };
 
   const handleEditProjectClick = (project: PinnedProject) => {
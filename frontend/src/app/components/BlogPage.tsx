@@ -8,16 +8,15 @@ import {
   SelectTrigger,
   SelectValue,
 } from "@/app/components/ui/select";
-import { api, BlogPost as ApiBlogPost } from "@/app/api";
+import { api, BlogSummary } from "@/app/api";
 import { useEffect, useState } from "react";
 import { useUser } from "@/app/context/UserContext";
 import { toast } from "sonner";
-import { ContentRenderer } from "./ContentRenderer";
 
-interface BlogPost extends ApiBlogPost {
+interface BlogPost extends BlogSummary {
   category: string;
-  excerpt: string;
   date: string;
+  contentHtml?: string;
 }
 
 export function BlogPage() {
@@ -48,9 +47,7 @@ export function BlogPage() {
           data.content.map((post) => ({
             ...post,
             category: post.category || "General",
-            excerpt: post.content
-              ? post.content.substring(0, 150) + "..."
-              : "No preview available",
+            excerpt: post.excerpt || "No preview available",
             date: post.createdDate,
           }))
         );
@@ -65,6 +62,16 @@ export function BlogPage() {
     fetchPosts();
   }, [currentPage]);
 
+  const openPost = async (post: BlogPost) => {
+    try {
+      const full = await api.blogs.getById(post.id);
+      setSelectedPost({ ...post, contentHtml: full.contentHtml });
+    } catch (error) {
+      console.error("Failed to fetch blog post", error);
+      toast.error("Failed to load post");
+    }
+  };
+
   const sortedPosts = [...posts].sort((a, b) => {
     const dateA = new Date(a.createdDate).getTime();
     const dateB = new Date(b.createdDate).getTime();
@@ -127,7 +134,7 @@ export function BlogPage() {
                     animate={{ opacity: 1, y: 0 }}
                     transition={{ delay: index * 0.1 }}
                     className="group relative p-8 glass-panel rounded-sm transition-all duration-300 hover:border-primary/50 hover:shadow-[0_0_30px_rgba(255,77,77,0.1)] hover:-translate-x-[-10px] cursor-pointer"
-                    onClick={() => setSelectedPost(post)}
+                    onClick={() => openPost(post)}
                   >
                     <div className="absolute left-0 top-0 bottom-0 w-1 bg-primary scale-y-0 group-hover:scale-y-100 transition-transform origin-top duration-300" />
 
@@ -239,7 +246,11 @@ export function BlogPage() {
                     </div>
                   </div>
 
-                  <ContentRenderer content={selectedPost.content} />
+                  {/* rendered and sanitised on the server when the post was saved */}
+                  <div
+                    className="prose prose-zinc dark:prose-invert max-w-none text-zinc-300"
+                    dangerouslySetInnerHTML={{ __html: selectedPost.contentHtml ?? "" }}
+                  />
 
                   <div className="mt-24 pt-8 border-t border-border opacity-50 flex justify-between items-center text-xs font-mono">
                     <span>END_OF_TRANSMISSION</span>
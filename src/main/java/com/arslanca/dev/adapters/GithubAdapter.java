@@ -1,21 +1,63 @@
 package com.arslanca.dev.adapters;
 
 import com.arslanca.dev.business.dto.responses.GithubRepoResponse;
+import com.arslanca.dev.core.utilities.http.OutboundClientFactory;
+import com.arslanca.dev.core.utilities.security.GithubWebhookVerifier;
+import com.arslanca.dev.core.utilities.snapshot.SnapshotStore;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
+/**
+ * Serves the repo list from memory and keeps it fresh with a stale-while-revalidate policy.
+ * The scheduled refresh normally runs before the snapshot goes stale; if it does go stale
+ * (GitHub down, refresh failed) readers still get the last good list right away and kick off
+ * a single background refresh. Refreshes send the last ETag, so an unchanged list comes back
+ * as a 304 which GitHub does not count against the rate limit. Languages and last commit
+ * dates are filled in afterwards by {@link GithubRepoEnricher}.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class GithubAdapter {
 
-    private final RestClient.Builder restClientBuilder;
+    private static final int PAGE_SIZE = 100;
+    private static final Pattern LAST_PAGE = Pattern.compile("[?&]page=(\\d+)[^>]*>;\\s*rel=\"last\"");
+    private static final ParameterizedTypeReference<List<GithubRepoResponse>> REPO_LIST = new ParameterizedTypeReference<>() {};
+
+    private static final String SNAPSHOT_NAME = "github-repos";
+
+    private final OutboundClientFactory outboundClientFactory;
+    private final SnapshotStore snapshotStore;
+    private final GithubWebhookVerifier githubWebhookVerifier;
+    private final MeterRegistry meterRegistry;
 
     @Value("${app.github.nickname}")
     private String githubUsername;
@@ -23,21 +65,374 @@ public class GithubAdapter {
     @Value("${app.github.token:}")
     private String githubToken;
 
-    @Cacheable(value = "github-repos")
-    @Scheduled(fixedRate = 600000)
-    public List<GithubRepoResponse> getRepos(){
-        RestClient.Builder builder = restClientBuilder.baseUrl("https://api.github.com");
+    @Value("${app.github.cache.stale-after-ms:900000}")
+    private long staleAfterMs;
+
+    @Value("${app.github.cache.reconcile-ms:21600000}")
+    private long reconcileMs;
+
+    @Value("${app.github.fetch.max-parallel:4}")
+    private int maxParallelPages;
+
+    @Value("${app.github.enrich.max-parallel:4}")
+    private int maxParallelEnrichments;
 
+    private RestClient restClient;
+    private GithubRepoEnricher githubRepoEnricher;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final AtomicBoolean enriching = new AtomicBoolean();
+    private final AtomicBoolean enrichmentPending = new AtomicBoolean();
+    private final List<Consumer<List<GithubRepoResponse>>> listeners = new CopyOnWriteArrayList<>();
+    private volatile List<CachedPage> pages = List.of();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    @PostConstruct
+    public void init() {
+        RestClient.Builder builder = outboundClientFactory.builder("github");
         if (githubToken != null && !githubToken.isEmpty()) {
-            builder.defaultHeader("Authorization", "Bearer " + githubToken);
+            builder.defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + githubToken);
+        }
+        restClient = builder.build();
+        githubRepoEnricher = new GithubRepoEnricher(restClient, githubUsername, maxParallelEnrichments, meterRegistry);
+        // keeps its original fetch time, so an old file is served but refreshed on first use
+        snapshotStore.load(SNAPSHOT_NAME, Snapshot.class).ifPresent(loaded -> {
+            snapshot.set(loaded);
+            pages = seedPages(loaded);
+            githubRepoEnricher.seed(loaded.repos());
+        });
+
+        Gauge.builder("github.repos.age", this, adapter -> adapter.ageMillis() / 1000.0)
+                .description("Seconds since the cached repo list was last confirmed by GitHub")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public List<GithubRepoResponse> getRepos() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            meterRegistry.counter("github.repos.requests", "result", "miss").increment();
+            refreshLock.lock();
+            try {
+                if (snapshot.get() == null) {
+                    refresh();
+                }
+            } finally {
+                refreshLock.unlock();
+            }
+            current = snapshot.get();
+            return current == null ? List.of() : current.repos();
+        }
+        if (System.currentTimeMillis() - current.fetchedAt() > staleAfterMs()) {
+            meterRegistry.counter("github.repos.requests", "result", "stale").increment();
+            if (refreshing.compareAndSet(false, true)) {
+                Thread.ofVirtual().name("github-refresh").start(() -> {
+                    try {
+                        refresh();
+                    } finally {
+                        refreshing.set(false);
+                    }
+                });
+            }
+        } else {
+            meterRegistry.counter("github.repos.requests", "result", "hit").increment();
+        }
+        return current.repos();
+    }
+
+    public boolean isPrimed() {
+        return snapshot.get() != null;
+    }
+
+    /** Called with the new list whenever a refresh, webhook or enrichment round changes which repos are listed or how. */
+    public void addListener(Consumer<List<GithubRepoResponse>> listener) {
+        listeners.add(listener);
+    }
+
+    @Scheduled(fixedDelayString = "${app.github.cache.refresh-ms:600000}", initialDelayString = "${app.github.cache.initial-delay-ms:5000}")
+    public void scheduledRefresh() {
+        Snapshot current = snapshot.get();
+        if (githubWebhookVerifier.isEnabled() && current != null && System.currentTimeMillis() - current.fetchedAt() < reconcileMs) {
+            return;
+        }
+        refresh();
+    }
+
+    /**
+     * Applies a verified {@code push}, {@code repository} or {@code star} webhook to the cached
+     * list without calling GitHub. Returns false when the event did not change anything.
+     */
+    public boolean applyWebhookEvent(String event, JsonNode payload) {
+        while (true) {
+            Snapshot current = snapshot.get();
+            if (current == null) {
+                // nothing cached yet, the next refresh fetches the full list anyway
+                return false;
+            }
+            List<GithubRepoResponse> repos = applyEvent(current.repos(), event, payload, githubUsername);
+            if (repos == current.repos()) {
+                return false;
+            }
+            Snapshot updated = new Snapshot(githubRepoEnricher.merge(repos), current.etag(), current.fetchedAt());
+            if (snapshot.compareAndSet(current, updated)) {
+                snapshotStore.save(SNAPSHOT_NAME, updated);
+                meterRegistry.counter("github.repos.webhook", "event", event).increment();
+                notifyListeners(updated.repos());
+                scheduleEnrichment();
+                return true;
+            }
+        }
+    }
+
+    // The list is sorted by last update, so pushes and edits move the repo to the front while
+    // star changes only touch the count. Returns the same list when nothing applies.
+    static List<GithubRepoResponse> applyEvent(List<GithubRepoResponse> repos, String event, JsonNode payload, String owner) {
+        boolean push = "push".equals(event);
+        boolean star = "star".equals(event);
+        if (!push && !star && !"repository".equals(event)) {
+            return repos;
+        }
+        JsonNode repository = payload.path("repository");
+        if (!repository.isObject() || !owner.equalsIgnoreCase(repository.path("owner").path("login").asText())) {
+            return repos;
+        }
+        String action = payload.path("action").asText("");
+        String name = repository.path("name").asText();
+        String previousName = payload.path("changes").path("repository").path("name").path("from").asText(name);
+
+        List<GithubRepoResponse> updated = new ArrayList<>(repos.size() + 1);
+        int existingIndex = -1;
+        for (GithubRepoResponse repo : repos) {
+            if (existingIndex < 0 && previousName.equalsIgnoreCase(repo.getName())) {
+                existingIndex = updated.size();
+            } else {
+                updated.add(repo);
+            }
+        }
+
+        if (repository.path("private").asBoolean(false) || "deleted".equals(action)) {
+            return existingIndex < 0 ? repos : List.copyOf(updated);
         }
+        if (star && existingIndex < 0) {
+            return repos;
+        }
+        GithubRepoResponse repo = new GithubRepoResponse();
+        repo.setName(name);
+        repo.setDescription(repository.path("description").isNull() ? null : repository.path("description").asText());
+        repo.setUrl(repository.path("html_url").asText());
+        repo.setStars(repository.path("stargazers_count").asText());
+        repo.setLanguage(repository.path("language").isNull() ? null : repository.path("language").asText());
+        repo.setPushedAt(timestamp(repository.path("pushed_at")));
+        if (repository.path("topics").isArray()) {
+            List<String> topics = new ArrayList<>();
+            repository.path("topics").forEach(topic -> topics.add(topic.asText()));
+            repo.setTopics(List.copyOf(topics));
+        }
+        updated.add(star ? existingIndex : 0, repo);
+        return List.copyOf(updated);
+    }
+
+    private long staleAfterMs() {
+        return githubWebhookVerifier.isEnabled() ? reconcileMs : staleAfterMs;
+    }
+
+    // Every page is requested with its own ETag: page 1 only covers the first hundred repos, so a
+    // 304 there says nothing about edits or deletions further down. Unchanged pages come back as
+    // 304s, which GitHub does not count against the rate limit. Guarded by a lock rather than a
+    // monitor: a virtual thread parked on a monitor pins its carrier, and the page fetches need one.
+    private void refresh() {
+        refreshLock.lock();
+        try {
+            refreshLocked();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void refreshLocked() {
+        Snapshot previous = snapshot.get();
+        List<CachedPage> cached = pages;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failed";
+        try {
+            ResponseEntity<List<GithubRepoResponse>> firstPage = fetchPage(1, cached.isEmpty() ? null : cached.get(0));
+            boolean firstUnchanged = firstPage.getStatusCode() == HttpStatus.NOT_MODIFIED && !cached.isEmpty();
+            if (!firstUnchanged && firstPage.getBody() == null) {
+                return;
+            }
+            // a 304 need not repeat the Link header, the cached page count still holds then
+            int lastPage = firstUnchanged && firstPage.getHeaders().getFirst(HttpHeaders.LINK) == null
+                    ? cached.size()
+                    : lastPage(firstPage.getHeaders());
 
-        RestClient restClient = builder.build();
+            List<CachedPage> fetched = new ArrayList<>(lastPage);
+            fetched.add(firstUnchanged ? cached.get(0) : new CachedPage(firstPage.getHeaders().getETag(), List.copyOf(firstPage.getBody())));
+            fetched.addAll(fetchRemainingPages(lastPage, cached));
+            boolean changed = !firstUnchanged || lastPage != cached.size();
+            for (int i = 1; i < fetched.size() && !changed; i++) {
+                changed = fetched.get(i) != cached.get(i);
+            }
+            pages = List.copyOf(fetched);
+
+            if (!changed && previous != null) {
+                snapshot.set(new Snapshot(previous.repos(), previous.etag(), System.currentTimeMillis()));
+                outcome = "not_modified";
+            } else {
+                List<GithubRepoResponse> repos = new ArrayList<>();
+                fetched.forEach(page -> repos.addAll(page.repos()));
+                Snapshot updated = new Snapshot(githubRepoEnricher.merge(List.copyOf(repos)), fetched.get(0).etag(), System.currentTimeMillis());
+                snapshot.set(updated);
+                snapshotStore.save(SNAPSHOT_NAME, updated);
+                outcome = "updated";
+                notifyListeners(updated.repos());
+            }
+            scheduleEnrichment();
+        } catch (Exception e) {
+            log.warn("GitHub repo refresh failed, serving last known list: {}", e.getMessage());
+        } finally {
+            sample.stop(meterRegistry.timer("github.repos.refresh", "outcome", outcome));
+        }
+    }
+
+    private ResponseEntity<List<GithubRepoResponse>> fetchPage(int page, CachedPage cached) {
         return restClient.get()
-                .uri("/users/" + githubUsername + "/repos?sort=updated&direction=desc") //günceli üste al
+                .uri(pageUri(page))
+                .headers(headers -> {
+                    if (cached != null && cached.etag() != null) {
+                        headers.setIfNoneMatch(cached.etag());
+                    }
+                })
                 .retrieve()
-                .body(new ParameterizedTypeReference<List<GithubRepoResponse>>() {});
+                .toEntity(REPO_LIST);
+    }
+
+    private void notifyListeners(List<GithubRepoResponse> repos) {
+        for (Consumer<List<GithubRepoResponse>> listener : listeners) {
+            try {
+                listener.accept(repos);
+            } catch (Exception e) {
+                log.warn("Repo listener failed: {}", e.getMessage());
+            }
+        }
     }
 
+    // Enrichment runs after the list is published, so readers get the new list right away and the
+    // per-repo details follow. Requests that arrive while a round is running fold into one more round.
+    private void scheduleEnrichment() {
+        enrichmentPending.set(true);
+        if (enriching.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("github-enrich").start(this::runEnrichment);
+        }
+    }
 
+    private void runEnrichment() {
+        try {
+            while (enrichmentPending.getAndSet(false)) {
+                Snapshot current = snapshot.get();
+                if (current != null && githubRepoEnricher.enrich(current.repos())) {
+                    publishEnrichment();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            enriching.set(false);
+        }
+        if (enrichmentPending.get() && !Thread.currentThread().isInterrupted()) {
+            scheduleEnrichment();
+        }
+    }
+
+    private void publishEnrichment() {
+        while (true) {
+            Snapshot current = snapshot.get();
+            List<GithubRepoResponse> repos = githubRepoEnricher.merge(current.repos());
+            if (repos == current.repos()) {
+                return;
+            }
+            Snapshot updated = new Snapshot(repos, current.etag(), current.fetchedAt());
+            if (snapshot.compareAndSet(current, updated)) {
+                snapshotStore.save(SNAPSHOT_NAME, updated);
+                notifyListeners(updated.repos());
+                return;
+            }
+        }
+    }
+
+    // Pages 2..last go out together on virtual threads, capped so a large account cannot burst
+    // past GitHub's secondary rate limits. Results are merged back in page order; a 304 hands
+    // back the cached page itself.
+    private List<CachedPage> fetchRemainingPages(int lastPage, List<CachedPage> cached) throws Exception {
+        if (lastPage < 2) {
+            return List.of();
+        }
+        Semaphore permits = new Semaphore(maxParallelPages);
+        List<Future<CachedPage>> results = new ArrayList<>(lastPage - 1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int page = 2; page <= lastPage; page++) {
+                int pageNo = page;
+                CachedPage previous = pageNo <= cached.size() ? cached.get(pageNo - 1) : null;
+                results.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        ResponseEntity<List<GithubRepoResponse>> response = fetchPage(pageNo, previous);
+                        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED && previous != null) {
+                            return previous;
+                        }
+                        List<GithubRepoResponse> body = response.getBody();
+                        return new CachedPage(response.getHeaders().getETag(), body == null ? List.of() : List.copyOf(body));
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        }
+        List<CachedPage> fetched = new ArrayList<>(results.size());
+        for (Future<CachedPage> result : results) {
+            fetched.add(result.get());
+        }
+        return fetched;
+    }
+
+    private String pageUri(int page) {
+        return "/users/" + githubUsername + "/repos?sort=updated&direction=desc&per_page=" + PAGE_SIZE + "&page=" + page; //günceli üste al
+    }
+
+    // Push payloads carry pushed_at as epoch seconds, everything else as an ISO timestamp.
+    private static String timestamp(JsonNode node) {
+        if (node.isNumber()) {
+            return Instant.ofEpochSecond(node.asLong()).toString();
+        }
+        return node.isTextual() ? node.asText() : null;
+    }
+
+    private static int lastPage(HttpHeaders headers) {
+        String link = headers.getFirst(HttpHeaders.LINK);
+        if (link == null) {
+            return 1;
+        }
+        Matcher matcher = LAST_PAGE.matcher(link);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : 1;
+    }
+
+    private long ageMillis() {
+        Snapshot current = snapshot.get();
+        return current == null ? 0 : System.currentTimeMillis() - current.fetchedAt();
+    }
+
+    // Only page 1's ETag is persisted; the other pages are fetched in full once after a restart.
+    private static List<CachedPage> seedPages(Snapshot loaded) {
+        List<CachedPage> seeded = new ArrayList<>();
+        List<GithubRepoResponse> repos = loaded.repos();
+        for (int from = 0; from < repos.size() || seeded.isEmpty(); from += PAGE_SIZE) {
+            seeded.add(new CachedPage(from == 0 ? loaded.etag() : null, repos.subList(from, Math.min(repos.size(), from + PAGE_SIZE))));
+        }
+        return List.copyOf(seeded);
+    }
+
+    private record CachedPage(String etag, List<GithubRepoResponse> repos) {
+    }
+
+    record Snapshot(List<GithubRepoResponse> repos, String etag, long fetchedAt) {
+    }
 }
@@ -0,0 +1,213 @@
+package com.arslanca.dev.adapters;
+
+import com.arslanca.dev.business.dto.responses.GithubRepoResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Per-repo details the list endpoint does not return: the language breakdown and the date of the
+ * last commit. A repo is only fetched again when its {@code pushed_at} moves, and every call
+ * sends the ETag of the previous answer, so a steady state costs nothing against the rate limit.
+ */
+@Slf4j
+class GithubRepoEnricher {
+
+    private static final ParameterizedTypeReference<Map<String, Long>> LANGUAGES = new ParameterizedTypeReference<>() {};
+
+    private final RestClient restClient;
+    private final String owner;
+    private final int maxParallel;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Enrichment> enrichments = new ConcurrentHashMap<>();
+
+    GithubRepoEnricher(RestClient restClient, String owner, int maxParallel, MeterRegistry meterRegistry) {
+        this.restClient = restClient;
+        this.owner = owner;
+        this.maxParallel = maxParallel;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /** Picks up enrichment persisted in an earlier snapshot; the ETags are gone, the data is not. */
+    void seed(List<GithubRepoResponse> repos) {
+        for (GithubRepoResponse repo : repos) {
+            if (repo.getLanguages() != null) {
+                enrichments.put(key(repo), new Enrichment(repo.getPushedAt(), repo.getLanguages(), repo.getLastCommitAt(), null, null));
+            }
+        }
+    }
+
+    /**
+     * Copies the last known enrichment onto {@code repos}. Repos are shared with readers, so a
+     * changed repo is copied rather than modified; the same list comes back if nothing changed.
+     */
+    List<GithubRepoResponse> merge(List<GithubRepoResponse> repos) {
+        prune(repos);
+        List<GithubRepoResponse> merged = new ArrayList<>(repos.size());
+        boolean changed = false;
+        for (GithubRepoResponse repo : repos) {
+            Enrichment enrichment = enrichments.get(key(repo));
+            if (enrichment == null
+                    || (Objects.equals(repo.getLanguages(), enrichment.languages()) && Objects.equals(repo.getLastCommitAt(), enrichment.lastCommitAt()))) {
+                merged.add(repo);
+            } else {
+                merged.add(withEnrichment(repo, enrichment));
+                changed = true;
+            }
+        }
+        return changed ? List.copyOf(merged) : repos;
+    }
+
+    /**
+     * Fetches details for every repo pushed since it was last enriched, at most
+     * {@code maxParallel} at a time. Blocks until done and returns true if anything changed.
+     */
+    boolean enrich(List<GithubRepoResponse> repos) throws InterruptedException {
+        prune(repos);
+        List<GithubRepoResponse> pending = repos.stream()
+                .filter(repo -> {
+                    Enrichment enrichment = enrichments.get(key(repo));
+                    return enrichment == null || !Objects.equals(enrichment.pushedAt(), repo.getPushedAt());
+                })
+                .toList();
+        if (pending.isEmpty()) {
+            return false;
+        }
+        Semaphore permits = new Semaphore(maxParallel);
+        List<Future<Boolean>> results = new ArrayList<>(pending.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (GithubRepoResponse repo : pending) {
+                results.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return enrich(repo);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        }
+        boolean changed = false;
+        for (Future<Boolean> result : results) {
+            try {
+                changed |= result.get();
+            } catch (Exception e) {
+                // enrich(repo) handles its own failures
+            }
+        }
+        return changed;
+    }
+
+    // both callers pass the full current list, so anything else belongs to a deleted or renamed repo
+    private void prune(List<GithubRepoResponse> repos) {
+        Set<String> current = new HashSet<>(repos.size() * 2);
+        for (GithubRepoResponse repo : repos) {
+            current.add(key(repo));
+        }
+        enrichments.keySet().retainAll(current);
+    }
+
+    private boolean enrich(GithubRepoResponse repo) {
+        String key = key(repo);
+        Enrichment previous = enrichments.get(key);
+        try {
+            ResponseEntity<Map<String, Long>> languages = restClient.get()
+                    .uri("/repos/{owner}/{repo}/languages", owner, repo.getName())
+                    .headers(headers -> {
+                        if (previous != null && previous.languagesEtag() != null) {
+                            headers.setIfNoneMatch(previous.languagesEtag());
+                        }
+                    })
+                    .retrieve()
+                    .toEntity(LANGUAGES);
+            ResponseEntity<JsonNode> commits = fetchLastCommit(repo, previous);
+
+            Enrichment updated = new Enrichment(
+                    repo.getPushedAt(),
+                    languages.getStatusCode() == HttpStatus.NOT_MODIFIED && previous != null ? previous.languages() : bodyOrEmpty(languages.getBody()),
+                    commits.getStatusCode() == HttpStatus.NOT_MODIFIED && previous != null ? previous.lastCommitAt() : lastCommitDate(commits.getBody()),
+                    languages.getHeaders().getETag(),
+                    commits.getHeaders().getETag());
+            enrichments.put(key, updated);
+            boolean changed = previous == null
+                    || !Objects.equals(previous.languages(), updated.languages())
+                    || !Objects.equals(previous.lastCommitAt(), updated.lastCommitAt());
+            meterRegistry.counter("github.repos.enrich", "outcome", changed ? "updated" : "not_modified").increment();
+            return changed;
+        } catch (Exception e) {
+            // left as it was, so the next round tries again
+            meterRegistry.counter("github.repos.enrich", "outcome", "failed").increment();
+            log.warn("Could not enrich GitHub repo {}: {}", repo.getName(), e.getMessage());
+            return false;
+        }
+    }
+
+    private ResponseEntity<JsonNode> fetchLastCommit(GithubRepoResponse repo, Enrichment previous) {
+        try {
+            return restClient.get()
+                    .uri("/repos/{owner}/{repo}/commits?per_page=1", owner, repo.getName())
+                    .headers(headers -> {
+                        if (previous != null && previous.commitsEtag() != null) {
+                            headers.setIfNoneMatch(previous.commitsEtag());
+                        }
+                    })
+                    .retrieve()
+                    .toEntity(JsonNode.class);
+        } catch (HttpClientErrorException.Conflict e) {
+            // GitHub answers 409 for a repo without any commits
+            return ResponseEntity.ok().build();
+        }
+    }
+
+    private static String lastCommitDate(JsonNode commits) {
+        if (commits == null || !commits.isArray() || commits.isEmpty()) {
+            return null;
+        }
+        JsonNode date = commits.get(0).path("commit").path("committer").path("date");
+        return date.isTextual() ? date.asText() : null;
+    }
+
+    private static Map<String, Long> bodyOrEmpty(Map<String, Long> languages) {
+        return languages == null ? Map.of() : languages;
+    }
+
+    private static GithubRepoResponse withEnrichment(GithubRepoResponse repo, Enrichment enrichment) {
+        GithubRepoResponse copy = new GithubRepoResponse();
+        copy.setName(repo.getName());
+        copy.setDescription(repo.getDescription());
+        copy.setUrl(repo.getUrl());
+        copy.setStars(repo.getStars());
+        copy.setLanguage(repo.getLanguage());
+        copy.setTopics(repo.getTopics());
+        copy.setPushedAt(repo.getPushedAt());
+        copy.setLanguages(enrichment.languages());
+        copy.setLastCommitAt(enrichment.lastCommitAt());
+        return copy;
+    }
+
+    private static String key(GithubRepoResponse repo) {
+        return repo.getName().toLowerCase(Locale.ROOT);
+    }
+
+    private record Enrichment(String pushedAt, Map<String, Long> languages, String lastCommitAt,
+                              String languagesEtag, String commitsEtag) {
+    }
+}
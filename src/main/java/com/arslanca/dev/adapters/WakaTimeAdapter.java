@@ -3,105 +3,177 @@ package com.arslanca.dev.adapters;
 import com.arslanca.dev.adapters.models.WakaTimeResponse;
 import com.arslanca.dev.adapters.models.WakaTimeSummariesResponse;
 import com.arslanca.dev.business.dto.responses.StatsResponse;
+import com.arslanca.dev.core.utilities.http.OutboundClientFactory;
+import com.arslanca.dev.core.utilities.snapshot.SnapshotStore;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.RestClient;
 
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
 import java.util.Date;
-import java.util.concurrent.atomic.AtomicLong;
-
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Readers only ever see a published, immutable {@link StatsResponse}; the WakaTime calls run on
+ * the scheduler, so {@link #getCurrentStatus()} is a single volatile read no matter how slow
+ * the API is.
+ */
+@Slf4j
 @Service
+@RequiredArgsConstructor
 public class WakaTimeAdapter {
 
     @Value("${WAKA_KEY}")
     private String apiKey;
 
-    private static final String BASE_URL = "https://wakatime.com/api/v1/users/current";
-    private final RestTemplate restTemplate = new RestTemplate();
-    private StatsResponse lastResponse = StatsResponse.builder().isCodingNow(false).build();
-    private final AtomicLong lastFetchTime = new AtomicLong(0);
-    private static final long RATE_LIMIT_MS = 60000;
+    private static final String SNAPSHOT_NAME = "wakatime-stats";
+
+    private final OutboundClientFactory outboundClientFactory;
+    private final SnapshotStore snapshotStore;
+    private RestClient restClient;
+    private final ExecutorService fetchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicReference<StatsResponse> snapshot =
+            new AtomicReference<>(StatsResponse.builder().isCodingNow(false).build());
+    private volatile boolean primed;
+    private final List<Consumer<StatsResponse>> listeners = new CopyOnWriteArrayList<>();
+    private final List<Consumer<List<WakaTimeResponse.Heartbeat>>> heartbeatListeners = new CopyOnWriteArrayList<>();
 
     @PostConstruct
     public void init() {
-        refreshWakaTimeStats();
+        restClient = outboundClientFactory.builder("wakatime").build();
+        snapshotStore.load(SNAPSHOT_NAME, StatsResponse.class).ifPresent(stats -> {
+            snapshot.set(stats);
+            primed = true;
+        });
     }
 
     public StatsResponse getCurrentStatus() {
-        long now = System.currentTimeMillis();
-        if (now - lastFetchTime.get() > RATE_LIMIT_MS) {
-            synchronized (this) {
-                if (now - lastFetchTime.get() > RATE_LIMIT_MS) {
-                    refreshWakaTimeStats();
-                }
-            }
-        }
-        return lastResponse;
+        return snapshot.get();
     }
 
-    private void refreshWakaTimeStats() {
-        String summariesUrl = BASE_URL + "/summaries?start=today&end=today&api_key=" + apiKey;
-        String heartbeatsUrl = BASE_URL + "/heartbeats?date=today&api_key=" + apiKey;
+    /** True once a snapshot has been loaded from disk or fetched from WakaTime. */
+    public boolean isPrimed() {
+        return primed;
+    }
+
+    /** Called on the refresh thread whenever a refresh publishes a snapshot that differs from the last one. */
+    public void addListener(Consumer<StatsResponse> listener) {
+        listeners.add(listener);
+    }
 
+    /** Receives every heartbeat list the refresh downloads, oldest first. */
+    public void addHeartbeatListener(Consumer<List<WakaTimeResponse.Heartbeat>> listener) {
+        heartbeatListeners.add(listener);
+    }
+
+    @Scheduled(fixedDelayString = "${app.waka.refresh-ms:60000}")
+    public void refreshWakaTimeStats() {
         try {
-            WakaTimeResponse hbResponse = restTemplate.getForObject(heartbeatsUrl, WakaTimeResponse.class);
-            WakaTimeSummariesResponse summariesResponse = restTemplate.getForObject(summariesUrl, WakaTimeSummariesResponse.class);
+            CompletableFuture<WakaTimeResponse> heartbeats = CompletableFuture.supplyAsync(this::fetchHeartbeats, fetchExecutor);
+            CompletableFuture<WakaTimeSummariesResponse> summaries = CompletableFuture.supplyAsync(this::fetchSummaries, fetchExecutor);
+            WakaTimeResponse hbResponse = heartbeats.join();
+            publish(buildSnapshot(hbResponse, summaries.join()));
+            if (hbResponse != null && hbResponse.getData() != null) {
+                heartbeatListeners.forEach(listener -> listener.accept(hbResponse.getData()));
+            }
+        } catch (Exception e) {
+            log.warn("WakaTime API Hata veya Rate Limit: {}", e.getMessage());
+        }
+    }
 
-            var responseBuilder = StatsResponse.builder();
-            String currentProjectName = null;
+    @PreDestroy
+    public void shutdown() {
+        fetchExecutor.shutdownNow();
+    }
 
-            if (hbResponse != null && hbResponse.getData() != null && !hbResponse.getData().isEmpty()) {
-                var lastHeartbeat = hbResponse.getData().get(hbResponse.getData().size() - 1);
+    WakaTimeResponse fetchHeartbeats() {
+        return restClient.get().uri("/heartbeats?date=today&api_key={key}", apiKey).retrieve().body(WakaTimeResponse.class);
+    }
 
-                double currentTimeSeconds = System.currentTimeMillis() / 1000.0;
-                boolean isActive = (currentTimeSeconds - lastHeartbeat.getTime()) < 600;
+    public WakaTimeResponse fetchHeartbeats(LocalDate date) {
+        return restClient.get().uri("/heartbeats?date={date}&api_key={key}", date, apiKey).retrieve().body(WakaTimeResponse.class);
+    }
 
-                currentProjectName = lastHeartbeat.getProject();
+    WakaTimeSummariesResponse fetchSummaries() {
+        return restClient.get().uri("/summaries?start=today&end=today&api_key={key}", apiKey).retrieve().body(WakaTimeSummariesResponse.class);
+    }
 
-                responseBuilder
-                        .isCodingNow(isActive)
-                        .ideName(lastHeartbeat.getEditor())
-                        .projectName(currentProjectName)
-                        .currentlyEditingFile(formatFileName(lastHeartbeat.getEntity()))
-                        .lastActiveTime(convertTime(lastHeartbeat.getTime()));
-            } else {
-                responseBuilder.isCodingNow(false);
+    void publish(StatsResponse stats) {
+        StatsResponse previous = snapshot.getAndSet(stats);
+        primed = true;
+        if (!stats.equals(previous)) {
+            snapshotStore.save(SNAPSHOT_NAME, stats);
+            for (Consumer<StatsResponse> listener : listeners) {
+                try {
+                    listener.accept(stats);
+                } catch (Exception e) {
+                    log.warn("Stats listener failed: {}", e.getMessage());
+                }
             }
+        }
+    }
 
-            if (summariesResponse != null && summariesResponse.getData() != null && !summariesResponse.getData().isEmpty()) {
-                var todaySummary = summariesResponse.getData().get(0);
+    private StatsResponse buildSnapshot(WakaTimeResponse hbResponse, WakaTimeSummariesResponse summariesResponse) {
+        var responseBuilder = StatsResponse.builder();
+        String currentProjectName = null;
 
-                if (todaySummary.getGrand_total() != null) {
-                    responseBuilder.totalSpentOnAllProjects(todaySummary.getGrand_total().getText());
-                } else {
-                     responseBuilder.totalSpentOnAllProjects("0 mins");
-                }
+        if (hbResponse != null && hbResponse.getData() != null && !hbResponse.getData().isEmpty()) {
+            var lastHeartbeat = hbResponse.getData().get(hbResponse.getData().size() - 1);
 
-                if (currentProjectName != null && todaySummary.getProjects() != null) {
-                    String finalCurrentProjectName = currentProjectName;
+            double currentTimeSeconds = System.currentTimeMillis() / 1000.0;
+            boolean isActive = (currentTimeSeconds - lastHeartbeat.getTime()) < 600;
 
-                    var projectStat = todaySummary.getProjects().stream()
-                            .filter(p -> p.getName().equalsIgnoreCase(finalCurrentProjectName))
-                            .findFirst();
+            currentProjectName = lastHeartbeat.getProject();
 
-                    if (projectStat.isPresent()) {
-                        responseBuilder.totalSpentOnCurrentProject(projectStat.get().getText());
-                    } else {
-                        responseBuilder.totalSpentOnCurrentProject("Just started");
-                    }
-                }
+            responseBuilder
+                    .isCodingNow(isActive)
+                    .ideName(lastHeartbeat.getEditor())
+                    .projectName(currentProjectName)
+                    .currentlyEditingFile(formatFileName(lastHeartbeat.getEntity()))
+                    .lastActiveTime(convertTime(lastHeartbeat.getTime()));
+        } else {
+            responseBuilder.isCodingNow(false);
+        }
+
+        if (summariesResponse != null && summariesResponse.getData() != null && !summariesResponse.getData().isEmpty()) {
+            var todaySummary = summariesResponse.getData().get(0);
+
+            if (todaySummary.getGrand_total() != null) {
+                responseBuilder.totalSpentOnAllProjects(todaySummary.getGrand_total().getText());
             } else {
                  responseBuilder.totalSpentOnAllProjects("0 mins");
             }
 
-            lastResponse = responseBuilder.build();
-            lastFetchTime.set(System.currentTimeMillis());
+            if (currentProjectName != null && todaySummary.getProjects() != null) {
+                String finalCurrentProjectName = currentProjectName;
 
-        } catch (Exception e) {
-            System.err.println("WakaTime API Hata veya Rate Limit: " + e.getMessage());
+                var projectStat = todaySummary.getProjects().stream()
+                        .filter(p -> p.getName().equalsIgnoreCase(finalCurrentProjectName))
+                        .findFirst();
+
+                if (projectStat.isPresent()) {
+                    responseBuilder.totalSpentOnCurrentProject(projectStat.get().getText());
+                } else {
+                    responseBuilder.totalSpentOnCurrentProject("Just started");
+                }
+            }
+        } else {
+             responseBuilder.totalSpentOnAllProjects("0 mins");
         }
+
+        return responseBuilder.build();
     }
 
     private String formatFileName(String fullPath) {
@@ -116,4 +188,4 @@ public class WakaTimeAdapter {
         SimpleDateFormat sdf = new SimpleDateFormat("HH:mm:ss");
         return sdf.format(date);
     }
-}
\ No newline at end of file
+}
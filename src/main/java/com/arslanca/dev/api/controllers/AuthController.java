@@ -2,18 +2,17 @@ package com.arslanca.dev.api.controllers;
 
 import com.arslanca.dev.business.dto.requests.LoginRequest;
 import com.arslanca.dev.business.dto.responses.AuthenticationResponse;
-import com.arslanca.dev.core.utilities.ratelimit.RateLimitService;
 import com.arslanca.dev.core.utilities.security.JwtSecurity;
+import com.arslanca.dev.core.utilities.security.TokenFingerprints;
+import com.arslanca.dev.core.utilities.security.TokenRevocationService;
+import com.arslanca.dev.core.utilities.security.TokenVersionService;
+import com.arslanca.dev.core.utilities.security.VerifiedToken;
 import com.arslanca.dev.dataAccess.RefreshTokenRepository;
-import com.arslanca.dev.dataAccess.RevokedTokenRepository;
 import com.arslanca.dev.dataAccess.UserRepository;
 import com.arslanca.dev.entities.RefreshToken;
-import com.arslanca.dev.entities.RevokedToken;
 import com.arslanca.dev.entities.User;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.ConsumptionProbe;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.Cookie;
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -33,22 +32,15 @@ public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
     private final JwtSecurity jwtService;
-    private final RateLimitService rateLimitService;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenRevocationService tokenRevocationService;
+    private final TokenVersionService tokenVersionService;
 
     @PostMapping("/login")
     public ResponseEntity<?> login(
             @RequestBody LoginRequest request,
-            HttpServletRequest httpRequest,
             HttpServletResponse response
     ) {
-        Bucket bucket = rateLimitService.resolveLoginBucket(httpRequest.getRemoteAddr());
-        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
-        if (!probe.isConsumed()) {
-            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
-                   .body("Too many login attempts. Please try again later.");
-        }
         authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         request.getUsername(),
@@ -71,9 +63,9 @@ public class AuthController {
 
         RefreshToken rt = RefreshToken.builder()
                 .user(user)
-                .token(refreshToken)
+                .tokenHash(TokenFingerprints.sha256(refreshToken))
                 .revoked(false)
-                .expiryDate(jwtService.extractExpiration(refreshToken).toInstant())
+                .expiryDate(jwtService.verify(refreshToken).expiresAt())
                 .build();
         refreshTokenRepository.save(rt);
 
@@ -101,12 +93,18 @@ public class AuthController {
         if (refreshToken == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Refresh token cookie missing");
         }
-        String username = jwtService.extractUsername(refreshToken);
+        VerifiedToken verifiedRefreshToken;
+        try {
+            verifiedRefreshToken = jwtService.verify(refreshToken);
+        } catch (JwtException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid or Revoked Token");
+        }
+        String username = verifiedRefreshToken.subject();
         if (username != null) {
             var user = userRepository.findByUsername(username).orElseThrow();
-            if (jwtService.isTokenValid(refreshToken, user)) {
+            if (jwtService.isTokenValid(verifiedRefreshToken, user)) {
 
-                var storedToken = refreshTokenRepository.findByToken(refreshToken)
+                var storedToken = refreshTokenRepository.findByTokenHash(TokenFingerprints.sha256(refreshToken))
                         .orElse(null);
 
                 if (storedToken == null || storedToken.isRevoked()) {
@@ -121,9 +119,9 @@ public class AuthController {
 
                 RefreshToken rt = RefreshToken.builder()
                     .user(user)
-                    .token(newRefreshToken)
+                    .tokenHash(TokenFingerprints.sha256(newRefreshToken))
                     .revoked(false)
-                    .expiryDate(jwtService.extractExpiration(newRefreshToken).toInstant())
+                    .expiryDate(jwtService.verify(newRefreshToken).expiresAt())
                     .build();
                 refreshTokenRepository.save(rt);
 
@@ -154,7 +152,7 @@ public class AuthController {
             HttpServletResponse response
     ) {
         if (refreshTokenToken != null) {
-            var storedToken = refreshTokenRepository.findByToken(refreshTokenToken).orElse(null);
+            var storedToken = refreshTokenRepository.findByTokenHash(TokenFingerprints.sha256(refreshTokenToken)).orElse(null);
             if (storedToken != null) {
                 storedToken.setRevoked(true);
                 refreshTokenRepository.save(storedToken);
@@ -162,11 +160,12 @@ public class AuthController {
         }
 
         if (accessToken != null) {
-             RevokedToken revokedToken = RevokedToken.builder()
-                .token(accessToken)
-                .expiryDate(jwtService.extractExpiration(accessToken).toInstant())
-                .build();
-             revokedTokenRepository.save(revokedToken);
+            try {
+                VerifiedToken verifiedAccessToken = jwtService.verify(accessToken);
+                tokenRevocationService.revoke(accessToken, verifiedAccessToken.expiresAt());
+            } catch (JwtException e) {
+                // already expired or forged, nothing to revoke
+            }
         }
 
         Cookie accessCookie = new Cookie("access_token", null);
@@ -186,6 +185,24 @@ public class AuthController {
 
         return ResponseEntity.ok("Logged out successfully");
     }
+    @PostMapping("/logout-all")
+    public ResponseEntity<?> logoutAll(
+            @CookieValue(name = "access_token", required = false) String accessToken,
+            @CookieValue(name = "refresh_token", required = false) String refreshTokenToken,
+            HttpServletResponse response
+    ) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        var user = userRepository.findByUsername(auth.getName()).orElseThrow();
+        var activeTokens = refreshTokenRepository.findByUserAndRevoked(user, false);
+        activeTokens.forEach(token -> token.setRevoked(true));
+        refreshTokenRepository.saveAll(activeTokens);
+        tokenVersionService.bump(user.getUsername());
+
+        return logout(accessToken, refreshTokenToken, response);
+    }
     @GetMapping("/check")
     public ResponseEntity<?> checkStatus() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -1,11 +1,20 @@
 package com.arslanca.dev.api.controllers;
 
+import com.arslanca.dev.business.abstracts.BlogSearchService;
 import com.arslanca.dev.business.abstracts.BlogService;
 import com.arslanca.dev.business.dto.requests.CreateBlogRequest;
-import com.arslanca.dev.business.dto.responses.GetBlogResponse;
+import com.arslanca.dev.business.dto.responses.BlogSearchResponse;
+import com.arslanca.dev.business.dto.responses.GetBlogSourceResponse;
+import com.arslanca.dev.business.dto.responses.GetBlogSummaryResponse;
+import com.arslanca.dev.core.utilities.http.ContentEncodings;
+import com.arslanca.dev.core.utilities.http.EncodedBody;
+import com.arslanca.dev.core.utilities.results.CursorPage;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -13,15 +22,53 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class BlogController {
     private final BlogService blogService;
+    private final BlogSearchService blogSearchService;
 
     @GetMapping
-    public Page<GetBlogResponse> getAll(
+    public Page<GetBlogSummaryResponse> getAll(
             @RequestParam(defaultValue = "1") int pageNo,
             @RequestParam(defaultValue = "10") int pageSize
     ){
         return blogService.getAll(pageNo, pageSize);
     }
 
+    @GetMapping("/feed")
+    public CursorPage<GetBlogSummaryResponse> getFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int pageSize,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ){
+        return blogService.getFeed(cursor, pageSize, includeTotal);
+    }
+
+    @GetMapping("/search")
+    public BlogSearchResponse search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit
+    ){
+        return blogSearchService.search(q, limit);
+    }
+
+    // Sends the bytes stored at write time in the best encoding the client accepts.
+    @GetMapping("/{id}")
+    public ResponseEntity<byte[]> getById(@PathVariable int id,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding){
+        EncodedBody body = blogService.getEncodedById(id, acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (!ContentEncodings.IDENTITY.equals(body.encoding())) {
+            response.header(HttpHeaders.CONTENT_ENCODING, body.encoding());
+        }
+        return response.body(body.bytes());
+    }
+
+    // The markdown for the editor; authenticated, see SecurityConfiguration.
+    @GetMapping("/{id}/source")
+    public GetBlogSourceResponse getSourceById(@PathVariable int id){
+        return blogService.getSourceById(id);
+    }
+
     @PostMapping
     public void add(@Valid @RequestBody CreateBlogRequest request){
         blogService.add(request);
@@ -2,12 +2,8 @@ package com.arslanca.dev.api.controllers;
 
 import com.arslanca.dev.business.abstracts.ContactService;
 import com.arslanca.dev.business.dto.requests.SendMailRequest;
-import com.arslanca.dev.core.utilities.ratelimit.RateLimitService;
-import io.github.bucket4j.Bucket;
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -20,20 +16,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class ContactController {
 
     private final ContactService contactService;
-    private final RateLimitService rateLimitService;
 
     @PostMapping
 
-    public ResponseEntity<String> sendMessage(@Valid @RequestBody SendMailRequest request, HttpServletRequest httpRequest) {
-        String ipAddress = httpRequest.getRemoteAddr();
-        Bucket bucket = rateLimitService.resolveBucket(ipAddress);
-
-        if (bucket.tryConsume(1)) {
-            contactService.send(request);
-            return ResponseEntity.ok("Mesajınız başarıyla gönderildi.");
-        } else {
-            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
-                    .body("Çok fazla mesaj gönderdiniz. Lütfen 1 saat sonra tekrar deneyin.");
-        }
+    public ResponseEntity<String> sendMessage(@Valid @RequestBody SendMailRequest request) {
+        contactService.send(request);
+        return ResponseEntity.ok("Mesajınız başarıyla gönderildi.");
     }
 }
\ No newline at end of file
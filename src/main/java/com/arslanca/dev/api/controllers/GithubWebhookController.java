@@ -0,0 +1,46 @@
+package com.arslanca.dev.api.controllers;
+
+import com.arslanca.dev.adapters.GithubAdapter;
+import com.arslanca.dev.core.utilities.security.GithubWebhookVerifier;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/webhooks")
+@RequiredArgsConstructor
+public class GithubWebhookController {
+
+    private final GithubAdapter githubAdapter;
+    private final GithubWebhookVerifier githubWebhookVerifier;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping("/github")
+    public ResponseEntity<Void> receive(@RequestHeader(value = "X-GitHub-Event", required = false) String event,
+                                        @RequestHeader(value = "X-Hub-Signature-256", required = false) String signature,
+                                        @RequestBody byte[] body) {
+        if (!githubWebhookVerifier.isValid(body, signature)) {
+            log.warn("Rejected GitHub webhook with missing or invalid signature");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        JsonNode payload;
+        try {
+            payload = objectMapper.readTree(body);
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        boolean applied = githubAdapter.applyWebhookEvent(event, payload);
+        return applied ? ResponseEntity.accepted().build() : ResponseEntity.noContent().build();
+    }
+}
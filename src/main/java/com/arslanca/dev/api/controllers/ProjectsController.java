@@ -1,14 +1,17 @@
 package com.arslanca.dev.api.controllers;
 
 import com.arslanca.dev.business.abstracts.ProjectService;
+import com.arslanca.dev.business.dto.requests.ProjectQuery;
 import com.arslanca.dev.business.dto.responses.GithubRepoResponse;
+import com.arslanca.dev.core.utilities.exceptions.types.BusinessException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api/projects")
@@ -18,10 +21,22 @@ public class  ProjectsController {
     private final ProjectService projectService;
 
     @GetMapping
-    public List<GithubRepoResponse> getAll(
+    public Page<GithubRepoResponse> getAll(
             @RequestParam(defaultValue = "1") int pageNo,
-            @RequestParam(defaultValue = "10") int pageSize
+            @RequestParam(defaultValue = "10") int pageSize,
+            @RequestParam(required = false) String language,
+            @RequestParam(required = false) String topic,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "updated") String sort
     ){
-        return projectService.getProjects(pageNo, pageSize);
+        return projectService.search(new ProjectQuery(language, topic, q, parseSort(sort)), pageNo, pageSize);
+    }
+
+    private static ProjectQuery.Sort parseSort(String sort) {
+        try {
+            return ProjectQuery.Sort.valueOf(sort.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Geçersiz sıralama: " + sort + " (updated, stars veya name olmalı)");
+        }
     }
 }
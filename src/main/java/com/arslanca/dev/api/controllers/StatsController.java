@@ -2,11 +2,29 @@ package com.arslanca.dev.api.controllers;
 
 
 import com.arslanca.dev.adapters.WakaTimeAdapter;
+import com.arslanca.dev.business.dto.responses.StatsHistoryResponse;
 import com.arslanca.dev.business.dto.responses.StatsResponse;
+import com.arslanca.dev.core.utilities.exceptions.types.BusinessException;
+import com.arslanca.dev.core.utilities.stream.StatsBroadcaster;
+import com.arslanca.dev.core.utilities.timeseries.Granularity;
+import com.arslanca.dev.core.utilities.timeseries.HeartbeatHistory;
+import com.arslanca.dev.core.utilities.timeseries.HistoryDimension;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api/stats/")
@@ -14,9 +32,46 @@ import org.springframework.web.bind.annotation.RestController;
 public class StatsController {
 
     private final WakaTimeAdapter wakaTimeAdapter;
+    private final StatsBroadcaster statsBroadcaster;
+    private final HeartbeatHistory heartbeatHistory;
 
     @GetMapping("/current")
     public StatsResponse getCurrentStatus() {
         return wakaTimeAdapter.getCurrentStatus();
     }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamStatus() {
+        SseEmitter emitter = statsBroadcaster.subscribe();
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+
+    @GetMapping("/history/{granularity}")
+    public StatsHistoryResponse getHistory(@PathVariable String granularity,
+                                           @RequestParam(defaultValue = "project") String groupBy,
+                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now(ZoneOffset.UTC);
+        LocalDate start = from != null ? from : end.minusDays(6);
+        if (start.isAfter(end)) {
+            throw new BusinessException("'from' must not be after 'to'");
+        }
+        return heartbeatHistory.history(parse(Granularity.class, granularity), parse(HistoryDimension.class, groupBy),
+                start.atStartOfDay(ZoneOffset.UTC).toInstant(), end.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant().minusSeconds(1));
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String value) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Unsupported value: " + value);
+        }
+    }
 }
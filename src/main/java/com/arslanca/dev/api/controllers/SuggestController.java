@@ -0,0 +1,27 @@
+package com.arslanca.dev.api.controllers;
+
+import com.arslanca.dev.business.abstracts.SuggestionService;
+import com.arslanca.dev.business.dto.responses.SuggestionResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/suggest")
+@RequiredArgsConstructor
+public class SuggestController {
+
+    private final SuggestionService suggestionService;
+
+    @GetMapping
+    public List<SuggestionResponse> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "8") int limit
+    ){
+        return suggestionService.suggest(prefix, limit);
+    }
+}
@@ -0,0 +1,11 @@
+package com.arslanca.dev.business.abstracts;
+
+import com.arslanca.dev.business.dto.responses.BlogSearchResponse;
+import com.arslanca.dev.entities.BlogPost;
+
+public interface BlogSearchService {
+    BlogSearchResponse search(String query, int limit);
+    void index(BlogPost blogPost);
+    void remove(int id);
+    void rebuild();
+}
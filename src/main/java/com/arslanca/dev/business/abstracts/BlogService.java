@@ -1,12 +1,18 @@
 package com.arslanca.dev.business.abstracts;
 
 import com.arslanca.dev.business.dto.requests.CreateBlogRequest;
-import com.arslanca.dev.business.dto.responses.GetBlogResponse;
+import com.arslanca.dev.business.dto.responses.GetBlogSourceResponse;
+import com.arslanca.dev.business.dto.responses.GetBlogSummaryResponse;
+import com.arslanca.dev.core.utilities.http.EncodedBody;
+import com.arslanca.dev.core.utilities.results.CursorPage;
 import org.springframework.data.domain.Page;
 
 
 public interface BlogService {
-    Page<GetBlogResponse> getAll(int pageNo, int pageSize);
+    Page<GetBlogSummaryResponse> getAll(int pageNo, int pageSize);
+    CursorPage<GetBlogSummaryResponse> getFeed(String cursor, int pageSize, boolean includeTotal);
+    GetBlogSourceResponse getSourceById(int id);
+    EncodedBody getEncodedById(int id, String acceptEncoding);
     void add(CreateBlogRequest request);
     void update(int id, CreateBlogRequest request);
     void delete(int id);
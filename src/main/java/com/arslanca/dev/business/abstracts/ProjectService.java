@@ -1,9 +1,13 @@
 package com.arslanca.dev.business.abstracts;
 
+import com.arslanca.dev.business.dto.requests.ProjectQuery;
 import com.arslanca.dev.business.dto.responses.GithubRepoResponse;
+import org.springframework.data.domain.Page;
 
 import java.util.List;
 
 public interface ProjectService {
     List<GithubRepoResponse> getProjects(int pageNo, int pageSize);
+
+    Page<GithubRepoResponse> search(ProjectQuery query, int pageNo, int pageSize);
 }
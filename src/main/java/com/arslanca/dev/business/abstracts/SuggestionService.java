@@ -0,0 +1,12 @@
+package com.arslanca.dev.business.abstracts;
+
+import com.arslanca.dev.business.dto.responses.SuggestionResponse;
+
+import java.util.List;
+
+public interface SuggestionService {
+    List<SuggestionResponse> suggest(String prefix, int limit);
+    void put(String type, Object id, String text);
+    void remove(String type, Object id);
+    void rebuild();
+}
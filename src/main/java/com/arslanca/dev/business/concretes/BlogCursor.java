@@ -0,0 +1,26 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.core.utilities.exceptions.types.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/** Position after the last post of a slice, in the list order (createdDate desc, id desc). */
+record BlogCursor(LocalDate createdDate, int id) {
+
+    String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdDate + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static BlogCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf('|');
+            return new BlogCursor(LocalDate.parse(value.substring(0, separator)), Integer.parseInt(value.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessException("Geçersiz sayfa imleci: " + cursor);
+        }
+    }
+}
@@ -1,40 +1,139 @@
 package com.arslanca.dev.business.concretes;
 
 
+import com.arslanca.dev.business.abstracts.BlogSearchService;
 import com.arslanca.dev.business.abstracts.BlogService;
+import com.arslanca.dev.business.abstracts.SuggestionService;
 import com.arslanca.dev.business.dto.requests.CreateBlogRequest;
 import com.arslanca.dev.business.dto.responses.GetBlogResponse;
+import com.arslanca.dev.business.dto.responses.GetBlogSourceResponse;
+import com.arslanca.dev.business.dto.responses.GetBlogSummaryResponse;
+import com.arslanca.dev.business.dto.responses.SuggestionResponse;
 import com.arslanca.dev.business.mappers.BlogMapper;
 import com.arslanca.dev.core.utilities.exceptions.types.BusinessException;
 import com.arslanca.dev.core.utilities.exceptions.types.NotFoundException;
+import com.arslanca.dev.core.utilities.http.ContentEncodings;
+import com.arslanca.dev.core.utilities.http.ContentVersions;
+import com.arslanca.dev.core.utilities.http.EncodedBody;
+import com.arslanca.dev.core.utilities.results.CursorPage;
+import com.arslanca.dev.core.utilities.text.MarkdownRenderer;
+import com.arslanca.dev.core.utilities.text.PostSummaries;
+import com.arslanca.dev.core.utilities.transaction.AfterCommit;
+import com.arslanca.dev.dataAccess.BlogPostBodyRepository;
 import com.arslanca.dev.dataAccess.BlogRepository;
 import com.arslanca.dev.entities.BlogPost;
+import com.arslanca.dev.entities.BlogPostBody;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BlogManager implements BlogService {
 
+    // bump when the stored single-post response changes shape or rendering, so startup rebuilds it
+    static final int BODY_FORMAT = 2;
+
     private final BlogRepository blogRepository;
     private final BlogMapper blogMapper;
+    private final BlogSearchService blogSearchService;
+    private final SuggestionService suggestionService;
+    private final BlogPostBodyRepository blogPostBodyRepository;
+    private final ObjectMapper objectMapper;
+    private final ContentVersions contentVersions;
+
+    @PostConstruct
+    public void init() {
+        contentVersions.track(ContentVersions.BLOGS, blogRepository::findContentState);
+    }
 
     @Override
-    public Page<GetBlogResponse> getAll(int pageNo, int pageSize) {
+    public Page<GetBlogSummaryResponse> getAll(int pageNo, int pageSize) {
         if (pageNo < 1) pageNo = 1;
-        Pageable pageable = PageRequest.of(pageNo - 1, pageSize, Sort.by(Sort.Direction.DESC, "createdDate"));
+        Pageable pageable = PageRequest.of(pageNo - 1, pageSize, Sort.by(Sort.Direction.DESC, "createdDate", "id"));
+
+        return blogRepository.findSummaries(pageable);
+    }
+
+    @Override
+    public CursorPage<GetBlogSummaryResponse> getFeed(String cursor, int pageSize, boolean includeTotal) {
+        if (pageSize < 1) pageSize = 1;
+        // one extra row tells us whether another slice follows
+        Pageable limit = PageRequest.ofSize(pageSize + 1);
+        List<GetBlogSummaryResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = blogRepository.findFirstSummaries(limit);
+        } else {
+            BlogCursor after = BlogCursor.decode(cursor);
+            rows = blogRepository.findSummariesBefore(after.createdDate(), after.id(), limit);
+        }
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            GetBlogSummaryResponse last = rows.get(pageSize - 1);
+            nextCursor = new BlogCursor(last.getCreatedDate(), last.getId()).encode();
+        }
+        return new CursorPage<>(rows, nextCursor, includeTotal ? blogRepository.count() : null);
+    }
+
+    @Override
+    public EncodedBody getEncodedById(int id, String acceptEncoding) {
+        String encoding = ContentEncodings.negotiate(acceptEncoding, ContentEncodings.isBrotliAvailable(), true);
+        Optional<byte[]> bytes = Optional.empty();
+        if (ContentEncodings.BROTLI.equals(encoding)) {
+            bytes = blogPostBodyRepository.findJsonBrotli(id);
+            if (bytes.isEmpty()) {
+                // stored by an instance without the Brotli library
+                encoding = ContentEncodings.negotiate(acceptEncoding, false, true);
+            }
+        }
+        if (bytes.isEmpty() && ContentEncodings.GZIP.equals(encoding)) {
+            bytes = blogPostBodyRepository.findJsonGzip(id);
+        }
+        if (bytes.isPresent()) {
+            return new EncodedBody(encoding, bytes.get());
+        }
+        Optional<byte[]> json = blogPostBodyRepository.findJson(id);
+        if (json.isPresent()) {
+            return new EncodedBody(ContentEncodings.IDENTITY, json.get());
+        }
+        // a post the startup backfill has not reached yet: built for this response only, the read
+        // path never writes
+        BlogPost blogPost = blogRepository.findById(id).orElseThrow(() -> new NotFoundException("Blog yazısı bulunamadı (ID: " + id + ")"));
+        GetBlogResponse response = blogMapper.toResponse(blogPost);
+        if (response.getContentHtml() == null) {
+            response.setContentHtml(MarkdownRenderer.render(blogPost.getContent()));
+        }
+        return new EncodedBody(ContentEncodings.IDENTITY, serialise(response, id));
+    }
 
-        return blogRepository.findAll(pageable).map(blogMapper::toResponse);
+    @Override
+    public GetBlogSourceResponse getSourceById(int id) {
+        return blogRepository.findById(id)
+                .map(blogMapper::toSourceResponse)
+                .orElseThrow(() -> new NotFoundException("Blog yazısı bulunamadı (ID: " + id + ")"));
     }
 
 
     @Override
+    @Transactional
     public void add(CreateBlogRequest request) {
         if (blogRepository.existsByTitle(request.getTitle())) {
             throw new BusinessException("Bu başlıkta bir blog yazısı zaten mevcut: " + request.getTitle());
@@ -44,23 +143,90 @@ public class BlogManager implements BlogService {
 
         BlogPost blogPost = blogMapper.toBlogPost(request);
         blogPost.setCreatedDate(LocalDate.now());
+        blogPost.setUpdatedAt(Instant.now());
+        summarize(blogPost);
         blogRepository.save(blogPost);
+        storeBody(blogPost);
+        contentVersions.bump(ContentVersions.BLOGS);
+        AfterCommit.run(() -> blogSearchService.index(blogPost));
+        AfterCommit.run(() -> suggestionService.put(SuggestionResponse.BLOG, blogPost.getId(), blogPost.getTitle()));
     }
 
     @Override
+    @Transactional
     public void update(int id, CreateBlogRequest request) {
         BlogPost blogPost = blogRepository.findById(id).orElseThrow(() -> new NotFoundException("Blog yazısı bulunamadı (ID: " + id + ")"));
 
         setDefaultCategory(request);
 
         blogMapper.updateBlogPostFromRequest(request, blogPost);
+        blogPost.setUpdatedAt(Instant.now());
+        summarize(blogPost);
         blogRepository.save(blogPost);
+        storeBody(blogPost);
+        contentVersions.bump(ContentVersions.BLOGS);
+        AfterCommit.run(() -> blogSearchService.index(blogPost));
+        AfterCommit.run(() -> suggestionService.put(SuggestionResponse.BLOG, blogPost.getId(), blogPost.getTitle()));
     }
 
     @Override
+    @Transactional
     public void delete(int id) {
         checkIfBlogExists(id);
         blogRepository.deleteById(id);
+        if (blogPostBodyRepository.existsById(id)) {
+            blogPostBodyRepository.deleteById(id);
+        }
+        contentVersions.bump(ContentVersions.BLOGS);
+        AfterCommit.run(() -> blogSearchService.remove(id));
+        AfterCommit.run(() -> suggestionService.remove(SuggestionResponse.BLOG, id));
+    }
+
+    // Posts written before summaries, rendered HTML or stored bodies existed, or whose body predates
+    // BODY_FORMAT, get all three here once, so views only ever read. Each post is redone on its own
+    // and the work is idempotent: a post that fails, or loses a race with another instance starting
+    // at the same time, is simply picked up again on the next start.
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSummaries() {
+        List<BlogPost> missing = blogRepository.findNeedingBackfill(BODY_FORMAT);
+        if (missing.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        int done = 0;
+        for (BlogPost blogPost : missing) {
+            try {
+                blogPost.setUpdatedAt(now);
+                summarize(blogPost);
+                blogRepository.save(blogPost);
+                storeBody(blogPost);
+                done++;
+            } catch (Exception e) {
+                log.warn("Could not backfill blog post {}, retrying on next start: {}", blogPost.getId(), e.getMessage());
+            }
+        }
+        contentVersions.bump(ContentVersions.BLOGS);
+        log.info("Backfilled summaries and stored bodies for {} of {} blog posts", done, missing.size());
+    }
+
+    private void summarize(BlogPost blogPost) {
+        blogPost.setExcerpt(PostSummaries.excerpt(blogPost.getContent()));
+        blogPost.setReadingMinutes(PostSummaries.readingMinutes(blogPost.getContent()));
+        blogPost.setContentHtml(MarkdownRenderer.render(blogPost.getContent()));
+    }
+
+    // Serialises and compresses the single-post response once per write; views only copy bytes.
+    private void storeBody(BlogPost blogPost) {
+        byte[] json = serialise(blogMapper.toResponse(blogPost), blogPost.getId());
+        blogPostBodyRepository.save(new BlogPostBody(blogPost.getId(), json, ContentEncodings.gzip(json), ContentEncodings.brotli(json), BODY_FORMAT));
+    }
+
+    private byte[] serialise(GetBlogResponse response, int id) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise blog post " + id, e);
+        }
     }
 
     private void checkIfBlogExists(int id) {
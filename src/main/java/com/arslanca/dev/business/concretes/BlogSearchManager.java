@@ -0,0 +1,117 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.business.abstracts.BlogSearchService;
+import com.arslanca.dev.business.dto.responses.BlogSearchResponse;
+import com.arslanca.dev.core.utilities.search.InvertedIndex;
+import com.arslanca.dev.core.utilities.text.PostSummaries;
+import com.arslanca.dev.dataAccess.BlogRepository;
+import com.arslanca.dev.dataAccess.BlogSearchRow;
+import com.arslanca.dev.entities.BlogPost;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Full-text search over blog posts from an in-process index. The index is built from the
+ * database once (at warm-up or on the first search) and {@link BlogManager} keeps it in step
+ * with every add, update and delete, so a search never touches the database.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BlogSearchManager implements BlogSearchService {
+
+    private static final int TITLE = 0;
+    private static final int CONTENT = 2;
+    private static final int SNIPPET_LENGTH = 200;
+    private static final int MAX_LIMIT = 50;
+    private static final int REBUILD_PAGE_SIZE = 200;
+    // enough for a snippet around matches in the opening paragraphs, without a copy of every post
+    private static final int STORED_CHARS = 2000;
+
+    private final BlogRepository blogRepository;
+
+    // title matches count three times as much as body matches, category twice
+    private final InvertedIndex index = new InvertedIndex(STORED_CHARS, 3f, 2f, 1f);
+    private final Map<Integer, Meta> metas = new ConcurrentHashMap<>();
+    private volatile boolean built;
+
+    @Override
+    public BlogSearchResponse search(String query, int limit) {
+        ensureBuilt();
+        InvertedIndex.Result result = index.search(query == null ? "" : query, Math.clamp(limit, 1, MAX_LIMIT));
+        List<BlogSearchResponse.Hit> hits = new ArrayList<>(result.hits().size());
+        for (InvertedIndex.Hit hit : result.hits()) {
+            Meta meta = metas.get(hit.id());
+            if (meta == null) {
+                continue;
+            }
+            String snippet = index.snippet(hit.id(), CONTENT, query, SNIPPET_LENGTH);
+            if (snippet.isEmpty()) {
+                snippet = index.snippet(hit.id(), TITLE, query, SNIPPET_LENGTH);
+            }
+            hits.add(new BlogSearchResponse.Hit(hit.id(), meta.title(), meta.category(), meta.createdDate(), hit.score(), snippet));
+        }
+        return new BlogSearchResponse(query, result.total(), hits);
+    }
+
+    @Override
+    public synchronized void index(BlogPost blogPost) {
+        if (!built) {
+            // the first search loads everything, including this post
+            return;
+        }
+        put(blogPost.getId(), blogPost.getTitle(), blogPost.getCategory(), blogPost.getCreatedDate(), blogPost.getContent());
+    }
+
+    @Override
+    public synchronized void remove(int id) {
+        index.remove(id);
+        metas.remove(id);
+    }
+
+    @Override
+    public synchronized void rebuild() {
+        index.clear();
+        metas.clear();
+        // keyset pages of the indexed columns only, so the rendered HTML and all posts at once never sit in memory
+        int indexed = 0;
+        List<BlogSearchRow> page;
+        int afterId = 0;
+        do {
+            page = blogRepository.findSearchRowsAfter(afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            for (BlogSearchRow row : page) {
+                put(row.id(), row.title(), row.category(), row.createdDate(), row.content());
+                afterId = row.id();
+            }
+            indexed += page.size();
+        } while (page.size() == REBUILD_PAGE_SIZE);
+        built = true;
+        log.info("Indexed {} blog posts for search", indexed);
+    }
+
+    private void ensureBuilt() {
+        if (!built) {
+            synchronized (this) {
+                if (!built) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    private void put(int id, String title, String category, LocalDate createdDate, String content) {
+        metas.put(id, new Meta(title, category, createdDate));
+        index.put(id, title, category, PostSummaries.plainText(content));
+    }
+
+    private record Meta(String title, String category, LocalDate createdDate) {
+    }
+}
@@ -1,17 +1,23 @@
 package com.arslanca.dev.business.concretes;
 
 import com.arslanca.dev.business.abstracts.PinnedProjectService;
+import com.arslanca.dev.business.abstracts.SuggestionService;
 import com.arslanca.dev.business.dto.requests.CreatePinnedProjectRequest;
 import com.arslanca.dev.business.dto.requests.UpdatePinnedProjectRequest;
 import com.arslanca.dev.business.dto.responses.PinnedProjectResponse;
+import com.arslanca.dev.business.dto.responses.SuggestionResponse;
 import com.arslanca.dev.business.mappers.PinnedProjectMapper;
 import com.arslanca.dev.core.utilities.exceptions.types.BusinessException;
 import com.arslanca.dev.core.utilities.exceptions.types.NotFoundException;
+import com.arslanca.dev.core.utilities.http.ContentVersions;
+import com.arslanca.dev.core.utilities.transaction.AfterCommit;
 import com.arslanca.dev.dataAccess.PinnedProjectRepository;
 import com.arslanca.dev.entities.PinnedProject;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.util.List;
 
 @Service
@@ -20,6 +26,13 @@ public class PinnedProjectManager implements PinnedProjectService {
 
     private final PinnedProjectRepository repository;
     private final PinnedProjectMapper mapper;
+    private final SuggestionService suggestionService;
+    private final ContentVersions contentVersions;
+
+    @PostConstruct
+    public void init() {
+        contentVersions.track(ContentVersions.PINNED_PROJECTS, repository::findContentState);
+    }
 
     @Override
     public List<PinnedProjectResponse> getAll() {
@@ -34,7 +47,10 @@ public class PinnedProjectManager implements PinnedProjectService {
             throw new BusinessException("Bu başlıkta bir proje zaten mevcut: " + request.getTitle());
         }
         PinnedProject project = mapper.toEntity(request);
+        project.setUpdatedAt(Instant.now());
         repository.save(project);
+        contentVersions.bump(ContentVersions.PINNED_PROJECTS);
+        AfterCommit.run(() -> suggestionService.put(SuggestionResponse.PINNED_PROJECT, project.getId(), project.getTitle()));
     }
 
     @Override
@@ -48,7 +64,11 @@ public class PinnedProjectManager implements PinnedProjectService {
         }
 
         mapper.updateEntityFromRequest(request, project);
+        // set explicitly: a change to the tags alone would not make the row dirty
+        project.setUpdatedAt(Instant.now());
         repository.save(project);
+        contentVersions.bump(ContentVersions.PINNED_PROJECTS);
+        AfterCommit.run(() -> suggestionService.put(SuggestionResponse.PINNED_PROJECT, project.getId(), project.getTitle()));
     }
 
     @Override
@@ -57,5 +77,7 @@ public class PinnedProjectManager implements PinnedProjectService {
             throw new NotFoundException("Silinecek proje bulunamadı (ID: " + id + ")");
         }
         repository.deleteById(id);
+        contentVersions.bump(ContentVersions.PINNED_PROJECTS);
+        AfterCommit.run(() -> suggestionService.remove(SuggestionResponse.PINNED_PROJECT, id));
     }
 }
@@ -0,0 +1,130 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.business.dto.requests.ProjectQuery;
+import com.arslanca.dev.business.dto.responses.GithubRepoResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Read-only lookup structures over one published repo list: a bitmap of repo positions per
+ * language and per topic, lower-cased search text, and the positions pre-sorted by stars and by
+ * name. Built once when the list changes, so a query is bitmap intersections and a walk over a
+ * ready-made order.
+ */
+final class ProjectIndex {
+
+    private static final BitSet NONE = new BitSet();
+
+    private final List<GithubRepoResponse> repos;
+    private final Map<String, BitSet> byLanguage = new HashMap<>();
+    private final Map<String, BitSet> byTopic = new HashMap<>();
+    private final String[] searchText;
+    private final int[] byStars;
+    private final int[] byName;
+
+    private ProjectIndex(List<GithubRepoResponse> repos) {
+        this.repos = repos;
+        int size = repos.size();
+        searchText = new String[size];
+        long[] stars = new long[size];
+        for (int i = 0; i < size; i++) {
+            GithubRepoResponse repo = repos.get(i);
+            add(byLanguage, repo.getLanguage(), i);
+            if (repo.getLanguages() != null) {
+                for (String language : repo.getLanguages().keySet()) {
+                    add(byLanguage, language, i);
+                }
+            }
+            if (repo.getTopics() != null) {
+                for (String topic : repo.getTopics()) {
+                    add(byTopic, topic, i);
+                }
+            }
+            searchText[i] = lower(repo.getName() + " " + (repo.getDescription() == null ? "" : repo.getDescription()));
+            stars[i] = parseStars(repo.getStars());
+        }
+        // ties keep GitHub's order, i.e. most recently updated first
+        byStars = IntStream.range(0, size).boxed()
+                .sorted(Comparator.comparingLong((Integer i) -> stars[i]).reversed())
+                .mapToInt(Integer::intValue)
+                .toArray();
+        byName = IntStream.range(0, size).boxed()
+                .sorted(Comparator.comparing((Integer i) -> lower(repos.get(i).getName())))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    static ProjectIndex of(List<GithubRepoResponse> repos) {
+        return new ProjectIndex(repos);
+    }
+
+    boolean isFor(List<GithubRepoResponse> repos) {
+        return this.repos == repos;
+    }
+
+    Page<GithubRepoResponse> query(ProjectQuery query, Pageable pageable) {
+        BitSet matches = new BitSet(repos.size());
+        matches.set(0, repos.size());
+        if (query.getLanguage() != null && !query.getLanguage().isBlank()) {
+            matches.and(byLanguage.getOrDefault(lower(query.getLanguage().trim()), NONE));
+        }
+        if (query.getTopic() != null && !query.getTopic().isBlank()) {
+            matches.and(byTopic.getOrDefault(lower(query.getTopic().trim()), NONE));
+        }
+        if (query.getText() != null && !query.getText().isBlank()) {
+            String needle = lower(query.getText().trim());
+            for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+                if (!searchText[i].contains(needle)) {
+                    matches.clear(i);
+                }
+            }
+        }
+
+        int total = matches.cardinality();
+        List<GithubRepoResponse> content = new ArrayList<>(Math.min(pageable.getPageSize(), total));
+        long skip = pageable.getOffset();
+        int[] order = order(query.getSort());
+        for (int n = 0; n < repos.size() && content.size() < pageable.getPageSize(); n++) {
+            int position = order == null ? n : order[n];
+            if (matches.get(position) && skip-- <= 0) {
+                content.add(repos.get(position));
+            }
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private int[] order(ProjectQuery.Sort sort) {
+        if (sort == ProjectQuery.Sort.STARS) {
+            return byStars;
+        }
+        return sort == ProjectQuery.Sort.NAME ? byName : null;
+    }
+
+    private static void add(Map<String, BitSet> index, String key, int position) {
+        if (key != null && !key.isBlank()) {
+            index.computeIfAbsent(lower(key), k -> new BitSet()).set(position);
+        }
+    }
+
+    private static long parseStars(String stars) {
+        try {
+            return stars == null ? 0 : Long.parseLong(stars.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static String lower(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
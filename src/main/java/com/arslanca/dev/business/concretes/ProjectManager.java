@@ -2,32 +2,50 @@ package com.arslanca.dev.business.concretes;
 
 import com.arslanca.dev.adapters.GithubAdapter;
 import com.arslanca.dev.business.abstracts.ProjectService;
+import com.arslanca.dev.business.dto.requests.ProjectQuery;
 import com.arslanca.dev.business.dto.responses.GithubRepoResponse;
+import com.arslanca.dev.core.utilities.http.ContentVersions;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 @RequiredArgsConstructor
 public class ProjectManager implements ProjectService {
 
     private final GithubAdapter githubAdapter;
+    private final ContentVersions contentVersions;
+    private final AtomicReference<ProjectIndex> index = new AtomicReference<>(ProjectIndex.of(List.of()));
 
+    @PostConstruct
+    public void init() {
+        githubAdapter.addListener(repos -> contentVersions.bump(ContentVersions.PROJECTS));
+    }
 
     @Override
     public List<GithubRepoResponse> getProjects(int pageNo, int pageSize) {
-        List<GithubRepoResponse> allRepos = githubAdapter.getRepos();
+        return search(new ProjectQuery(), pageNo, pageSize).getContent();
+    }
 
-        PageRequest pageRequest = PageRequest.of(pageNo - 1, pageSize);
-        int start = (int) pageRequest.getOffset();
-        int end = Math.min((start + pageRequest.getPageSize()), allRepos.size());
+    @Override
+    public Page<GithubRepoResponse> search(ProjectQuery query, int pageNo, int pageSize) {
+        return currentIndex().query(query, PageRequest.of(pageNo - 1, pageSize));
+    }
 
-        if (start >= allRepos.size()) {
-            return List.of();
+    // The adapter hands out the same list instance until the next refresh or webhook, so the
+    // index is rebuilt once per change rather than once per request.
+    private ProjectIndex currentIndex() {
+        List<GithubRepoResponse> repos = githubAdapter.getRepos();
+        ProjectIndex current = index.get();
+        if (!current.isFor(repos)) {
+            current = ProjectIndex.of(repos);
+            index.set(current);
         }
-
-        return allRepos.subList(start, end);
+        return current;
     }
 }
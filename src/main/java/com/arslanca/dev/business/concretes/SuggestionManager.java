@@ -0,0 +1,136 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.adapters.GithubAdapter;
+import com.arslanca.dev.business.abstracts.SuggestionService;
+import com.arslanca.dev.business.dto.responses.GithubRepoResponse;
+import com.arslanca.dev.business.dto.responses.SuggestionResponse;
+import com.arslanca.dev.core.utilities.search.SuggestionTrie;
+import com.arslanca.dev.dataAccess.BlogRepository;
+import com.arslanca.dev.dataAccess.PinnedProjectRepository;
+import com.arslanca.dev.dataAccess.TechStackRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Title typeahead across blog posts, pinned projects, tech stacks and GitHub repos. The trie is
+ * filled once from the database and the cached repo list, then kept current entry by entry by
+ * the admin managers and by repo list changes in {@link GithubAdapter}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SuggestionManager implements SuggestionService {
+
+    private static final int MAX_LIMIT = 20;
+
+    private final BlogRepository blogRepository;
+    private final PinnedProjectRepository pinnedProjectRepository;
+    private final TechStackRepository techStackRepository;
+    private final GithubAdapter githubAdapter;
+
+    private final SuggestionTrie<SuggestionResponse> trie = new SuggestionTrie<>();
+    private final Map<String, SuggestionResponse> entries = new ConcurrentHashMap<>();
+    private volatile boolean built;
+
+    @PostConstruct
+    public void init() {
+        githubAdapter.addListener(this::onReposChanged);
+    }
+
+    @Override
+    public List<SuggestionResponse> suggest(String prefix, int limit) {
+        ensureBuilt();
+        List<SuggestionResponse> suggestions = new ArrayList<>(Math.clamp(limit, 1, MAX_LIMIT));
+        if (prefix != null) {
+            trie.collect(prefix, Math.clamp(limit, 1, MAX_LIMIT), suggestions);
+        }
+        return suggestions;
+    }
+
+    @Override
+    public synchronized void put(String type, Object id, String text) {
+        if (built) {
+            putLocked(type, String.valueOf(id), text);
+        }
+    }
+
+    @Override
+    public synchronized void remove(String type, Object id) {
+        if (built) {
+            removeLocked(type, String.valueOf(id));
+        }
+    }
+
+    @Override
+    public synchronized void rebuild() {
+        trie.clear();
+        entries.clear();
+        blogRepository.findAllSummaries().forEach(blog -> putLocked(SuggestionResponse.BLOG, String.valueOf(blog.getId()), blog.getTitle()));
+        pinnedProjectRepository.findAll().forEach(project -> putLocked(SuggestionResponse.PINNED_PROJECT, String.valueOf(project.getId()), project.getTitle()));
+        techStackRepository.findAll().forEach(techStack -> putLocked(SuggestionResponse.TECH_STACK, String.valueOf(techStack.getId()), techStack.getName()));
+        if (githubAdapter.isPrimed()) {
+            githubAdapter.getRepos().forEach(repo -> putLocked(SuggestionResponse.REPO, repo.getName(), repo.getName()));
+        }
+        built = true;
+        log.info("Built typeahead index with {} entries", entries.size());
+    }
+
+    // Only names that appeared or disappeared touch the trie.
+    private synchronized void onReposChanged(List<GithubRepoResponse> repos) {
+        if (!built) {
+            return;
+        }
+        Set<String> names = new HashSet<>();
+        for (GithubRepoResponse repo : repos) {
+            names.add(repo.getName());
+            if (!entries.containsKey(key(SuggestionResponse.REPO, repo.getName()))) {
+                putLocked(SuggestionResponse.REPO, repo.getName(), repo.getName());
+            }
+        }
+        for (SuggestionResponse entry : List.copyOf(entries.values())) {
+            if (SuggestionResponse.REPO.equals(entry.getType()) && !names.contains(entry.getId())) {
+                removeLocked(SuggestionResponse.REPO, entry.getId());
+            }
+        }
+    }
+
+    private void ensureBuilt() {
+        if (!built) {
+            synchronized (this) {
+                if (!built) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    private void putLocked(String type, String id, String text) {
+        removeLocked(type, id);
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        SuggestionResponse suggestion = new SuggestionResponse(type, id, text);
+        entries.put(key(type, id), suggestion);
+        trie.put(text, suggestion);
+    }
+
+    private void removeLocked(String type, String id) {
+        SuggestionResponse previous = entries.remove(key(type, id));
+        if (previous != null) {
+            trie.remove(previous.getText(), previous);
+        }
+    }
+
+    private static String key(String type, String id) {
+        return type + ":" + id;
+    }
+}
@@ -1,15 +1,21 @@
 package com.arslanca.dev.business.concretes;
 
+import com.arslanca.dev.business.abstracts.SuggestionService;
 import com.arslanca.dev.business.abstracts.TechStackService;
 import com.arslanca.dev.business.dto.requests.CreateTechStackRequest;
 import com.arslanca.dev.business.dto.responses.GetTechStackResponse;
+import com.arslanca.dev.business.dto.responses.SuggestionResponse;
 import com.arslanca.dev.business.mappers.TechStackMapper;
 import com.arslanca.dev.core.utilities.exceptions.types.BusinessException;
+import com.arslanca.dev.core.utilities.http.ContentVersions;
+import com.arslanca.dev.core.utilities.transaction.AfterCommit;
 import com.arslanca.dev.dataAccess.TechStackRepository;
 import com.arslanca.dev.entities.TechStack;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.util.List;
 
 @Service
@@ -18,6 +24,13 @@ public class TechStackManager implements TechStackService {
 
     private final TechStackRepository techStackRepository;
     private final TechStackMapper techStackMapper;
+    private final SuggestionService suggestionService;
+    private final ContentVersions contentVersions;
+
+    @PostConstruct
+    public void init() {
+        contentVersions.track(ContentVersions.TECH_STACKS, techStackRepository::findContentState);
+    }
 
     @Override
     public List<GetTechStackResponse> getAll() {
@@ -31,13 +44,18 @@ public class TechStackManager implements TechStackService {
             throw new BusinessException("Bu başlıkta bir blog yazısı zaten mevcut: " + request.getName());
         }
         TechStack techStack = techStackMapper.toEntity(request);
+        techStack.setUpdatedAt(Instant.now());
         techStackRepository.save(techStack);
+        contentVersions.bump(ContentVersions.TECH_STACKS);
+        AfterCommit.run(() -> suggestionService.put(SuggestionResponse.TECH_STACK, techStack.getId(), techStack.getName()));
     }
 
     @Override
     public void delete(Integer id) {
         checkIfTechStackExists(id);
         techStackRepository.deleteById(id);
+        contentVersions.bump(ContentVersions.TECH_STACKS);
+        AfterCommit.run(() -> suggestionService.remove(SuggestionResponse.TECH_STACK, id));
     }
 
     @Override
@@ -46,7 +64,10 @@ public class TechStackManager implements TechStackService {
                 .orElseThrow(() -> new BusinessException("Tech stack bulunamadı (ID: " + id + ")"));
 
         techStackMapper.updateEntityFromRequest(request, techStack);
+        techStack.setUpdatedAt(Instant.now());
         techStackRepository.save(techStack);
+        contentVersions.bump(ContentVersions.TECH_STACKS);
+        AfterCommit.run(() -> suggestionService.put(SuggestionResponse.TECH_STACK, techStack.getId(), techStack.getName()));
 
     }
 
@@ -0,0 +1,22 @@
+package com.arslanca.dev.business.dto.requests;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectQuery {
+    private String language;
+
+    private String topic;
+
+    private String text;
+
+    private Sort sort = Sort.UPDATED;
+
+    public enum Sort {
+        UPDATED, STARS, NAME
+    }
+}
@@ -0,0 +1,30 @@
+package com.arslanca.dev.business.dto.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BlogSearchResponse {
+    private String query;
+    private long total;
+    private List<Hit> hits;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Hit {
+        private int id;
+        private String title;
+        private String category;
+        private LocalDate createdDate;
+        private double score;
+        // HTML-escaped, matches wrapped in <mark>
+        private String snippet;
+    }
+}
@@ -14,11 +14,13 @@ public class GetBlogResponse {
 
     private String title;
 
-    private String content;
+    private String contentHtml;
 
     private LocalDate createdDate;
 
     private String category;
 
+    private Integer readingMinutes;
+
 
 }
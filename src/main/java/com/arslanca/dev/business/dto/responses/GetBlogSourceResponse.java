@@ -0,0 +1,19 @@
+package com.arslanca.dev.business.dto.responses;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// the markdown as written, for the editor; readers get GetBlogResponse with the rendered HTML only
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetBlogSourceResponse {
+
+    private int id;
+
+    private String title;
+
+    private String content;
+
+    private String category;
+}
@@ -0,0 +1,25 @@
+package com.arslanca.dev.business.dto.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetBlogSummaryResponse {
+
+    private int id;
+
+    private String title;
+
+    private String category;
+
+    private LocalDate createdDate;
+
+    private String excerpt;
+
+    private Integer readingMinutes;
+}
@@ -5,6 +5,9 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 
+import java.util.List;
+import java.util.Map;
+
 @Data
 public class GithubRepoResponse {
     private String name;
@@ -18,4 +21,14 @@ public class GithubRepoResponse {
     private String stars;
 
     private String language;
+
+    private List<String> topics;
+
+    @JsonProperty("pushed_at")
+    private String pushedAt;
+
+    // filled in by the background enrichment, bytes of code per language
+    private Map<String, Long> languages;
+
+    private String lastCommitAt;
 }
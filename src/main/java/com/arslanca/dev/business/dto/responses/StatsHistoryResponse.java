@@ -0,0 +1,27 @@
+package com.arslanca.dev.business.dto.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StatsHistoryResponse {
+    private String granularity;
+    private String groupBy;
+    private List<Bucket> buckets;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Bucket {
+        private Instant start;
+        private long totalSeconds;
+        private Map<String, Long> seconds;
+    }
+}
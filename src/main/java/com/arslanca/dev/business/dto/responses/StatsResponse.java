@@ -1,10 +1,12 @@
 package com.arslanca.dev.business.dto.responses;
 
 import lombok.Builder;
-import lombok.Data;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
-@Data
+@Value
 @Builder
+@Jacksonized
 public class StatsResponse {
 
     private Boolean isCodingNow;
@@ -0,0 +1,15 @@
+package com.arslanca.dev.business.dto.responses;
+
+import lombok.Value;
+
+@Value
+public class SuggestionResponse {
+    public static final String BLOG = "blog";
+    public static final String PINNED_PROJECT = "pinnedProject";
+    public static final String TECH_STACK = "techStack";
+    public static final String REPO = "repo";
+
+    String type;
+    String id;
+    String text;
+}
@@ -2,14 +2,27 @@ package com.arslanca.dev.business.mappers;
 
 import com.arslanca.dev.business.dto.requests.CreateBlogRequest;
 import com.arslanca.dev.business.dto.responses.GetBlogResponse;
+import com.arslanca.dev.business.dto.responses.GetBlogSourceResponse;
 import com.arslanca.dev.entities.BlogPost;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
 @Mapper(componentModel = "spring")
 public interface BlogMapper {
 
+    // excerpt, reading time and rendered HTML are derived from the content in BlogManager,
+    // which also stamps updatedAt
+    @Mapping(target = "excerpt", ignore = true)
+    @Mapping(target = "readingMinutes", ignore = true)
+    @Mapping(target = "contentHtml", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     BlogPost toBlogPost(CreateBlogRequest request);
     GetBlogResponse toResponse(BlogPost blogPost);
+    GetBlogSourceResponse toSourceResponse(BlogPost blogPost);
+    @Mapping(target = "excerpt", ignore = true)
+    @Mapping(target = "readingMinutes", ignore = true)
+    @Mapping(target = "contentHtml", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     void updateBlogPostFromRequest(CreateBlogRequest request, @MappingTarget BlogPost blogPost);
 }
@@ -5,11 +5,15 @@ import com.arslanca.dev.business.dto.requests.UpdatePinnedProjectRequest;
 import com.arslanca.dev.business.dto.responses.PinnedProjectResponse;
 import com.arslanca.dev.entities.PinnedProject;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
 @Mapper(componentModel = "spring")
 public interface PinnedProjectMapper {
+    // stamped by PinnedProjectManager on every write
+    @Mapping(target = "updatedAt", ignore = true)
     PinnedProject toEntity(CreatePinnedProjectRequest request);
     PinnedProjectResponse toResponse(PinnedProject project);
+    @Mapping(target = "updatedAt", ignore = true)
     void updateEntityFromRequest(UpdatePinnedProjectRequest request, @MappingTarget PinnedProject project);
 }
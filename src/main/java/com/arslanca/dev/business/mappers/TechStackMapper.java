@@ -4,12 +4,14 @@ import com.arslanca.dev.business.dto.requests.CreateTechStackRequest;
 import com.arslanca.dev.business.dto.responses.GetTechStackResponse;
 import com.arslanca.dev.entities.TechStack;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import java.util.List;
 
 @Mapper(componentModel = "spring")
 public interface TechStackMapper {
-    //request to entity
+    //request to entity; updatedAt is stamped by TechStackManager
+    @Mapping(target = "updatedAt", ignore = true)
     TechStack toEntity(CreateTechStackRequest request);
 
     //entity to response
@@ -18,6 +20,7 @@ public interface TechStackMapper {
     //get list of responses -> frontend
     List<GetTechStackResponse> toResponseList(List<TechStack> techStacks);
 
+    @Mapping(target = "updatedAt", ignore = true)
     void updateEntityFromRequest(CreateTechStackRequest request, @org.mapstruct.MappingTarget TechStack techStack);
 
 }
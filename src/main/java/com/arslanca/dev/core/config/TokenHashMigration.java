@@ -0,0 +1,88 @@
+package com.arslanca.dev.core.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Upgrade for databases created before tokens were stored as SHA-256 digests, in two steps.
+ * <p>
+ * The backfill runs after Hibernate's schema update on every start while the legacy token column
+ * exists: it fills token_hash from it, including rows an older build inserted since the last run,
+ * and relaxes the NOT NULL on token so new rows can leave it empty. token_hash stays nullable and
+ * only gets a plain index, so a rolled back build that writes just the token column keeps working.
+ * <p>
+ * Making token_hash NOT NULL and unique and dropping the legacy column are one-way, so they form a
+ * separate step, only taken once the application is up and
+ * {@code app.migration.token-hash.drop-legacy-column} is set.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class TokenHashMigration {
+
+    private static final String[] TABLES = {"refresh_token", "revoked_token"};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.migration.token-hash.drop-legacy-column:false}")
+    private boolean dropLegacyColumn;
+
+    @PostConstruct
+    public void migrate() {
+        for (String table : TABLES) {
+            if (hasColumn(table, "token")) {
+                backfill(table);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void dropLegacyColumns() {
+        for (String table : TABLES) {
+            if (!hasColumn(table, "token")) {
+                continue;
+            }
+            if (!dropLegacyColumn) {
+                log.info("Legacy column {}.token kept; set app.migration.token-hash.drop-legacy-column=true to drop it", table);
+                continue;
+            }
+            Integer unhashed = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM " + table + " WHERE token_hash IS NULL", Integer.class);
+            if (unhashed != null && unhashed > 0) {
+                log.warn("Not dropping {}.token: {} rows still have no token_hash", table, unhashed);
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN token_hash SET NOT NULL");
+            jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS uk_" + table + "_token_hash ON " + table + " (token_hash)");
+            jdbcTemplate.execute("DROP INDEX IF EXISTS idx_" + table + "_token_hash");
+            jdbcTemplate.execute("ALTER TABLE " + table + " DROP COLUMN token");
+            log.info("Dropped legacy column {}.token", table);
+        }
+    }
+
+    private void backfill(String table) {
+        jdbcTemplate.execute("ALTER TABLE " + table + " ADD COLUMN IF NOT EXISTS token_hash BYTEA");
+        int updated = jdbcTemplate.update(
+                "UPDATE " + table + " SET token_hash = sha256(convert_to(token, 'UTF8')) WHERE token_hash IS NULL AND token IS NOT NULL");
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN token DROP NOT NULL");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_" + table + "_token_hash ON " + table + " (token_hash)");
+        if (updated > 0) {
+            log.info("Backfilled token hashes for {} rows of {}", updated, table);
+        }
+    }
+
+    private boolean hasColumn(String table, String column) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns WHERE table_name = ? AND column_name = ?",
+                Integer.class, table, column);
+        return count != null && count > 0;
+    }
+}
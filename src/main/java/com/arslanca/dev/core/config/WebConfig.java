@@ -1,9 +1,12 @@
 package com.arslanca.dev.core.config;
 
+import com.arslanca.dev.core.utilities.http.ContentVersions;
+import com.arslanca.dev.core.utilities.interceptors.ConditionalGetInterceptor;
 import com.arslanca.dev.core.utilities.interceptors.ExecutionTimeInterceptor;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -12,10 +15,23 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebConfig implements WebMvcConfigurer {
 
     private final ExecutionTimeInterceptor executionTimeInterceptor;
+    private final ContentVersions contentVersions;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(executionTimeInterceptor)
                 .addPathPatterns("/api/**");
+
+        // conditional GET per content aggregate; the pattern also covers the bare list path
+        registry.addInterceptor(new ConditionalGetInterceptor(contentVersions, ContentVersions.BLOGS, HttpHeaders.ACCEPT_ENCODING))
+                .addPathPatterns("/api/blogs/**");
+        registry.addInterceptor(new ConditionalGetInterceptor(contentVersions, ContentVersions.TECH_STACKS))
+                .addPathPatterns("/api/techstacks/**");
+        registry.addInterceptor(new ConditionalGetInterceptor(contentVersions, ContentVersions.PINNED_PROJECTS))
+                .addPathPatterns("/api/pinned-projects/**");
+        registry.addInterceptor(new ConditionalGetInterceptor(contentVersions, ContentVersions.PROJECTS))
+                .addPathPatterns("/api/projects/**");
+        registry.addInterceptor(new ConditionalGetInterceptor(contentVersions, ContentVersions.CONFIG))
+                .addPathPatterns("/api/config/**");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,52 @@
+package com.arslanca.dev.core.utilities.http;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Consecutive-failure circuit breaker. After {@code failureThreshold} failures in a row the
+ * circuit opens and calls fail fast for {@code openNanos}; then a single trial call is let
+ * through and its outcome closes or re-opens the circuit.
+ */
+class CircuitBreaker {
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier clock;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+    private volatile long openUntil;
+    private volatile boolean open;
+
+    CircuitBreaker(int failureThreshold, long openNanos, LongSupplier clock) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openNanos;
+        this.clock = clock;
+    }
+
+    boolean tryAcquire() {
+        if (!open) {
+            return true;
+        }
+        return clock.getAsLong() - openUntil >= 0 && trialInFlight.compareAndSet(false, true);
+    }
+
+    void onSuccess() {
+        consecutiveFailures.set(0);
+        open = false;
+        trialInFlight.set(false);
+    }
+
+    void onFailure() {
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold || open) {
+            openUntil = clock.getAsLong() + openNanos;
+            open = true;
+        }
+        trialInFlight.set(false);
+    }
+
+    boolean isOpen() {
+        return open;
+    }
+}
@@ -0,0 +1,99 @@
+package com.arslanca.dev.core.utilities.http;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compression for bodies that are encoded once and served many times, so both codecs run at
+ * their highest level. Brotli needs the native library; where it cannot be loaded
+ * {@link #brotli(byte[])} returns null and clients get gzip instead.
+ */
+public final class ContentEncodings {
+
+    public static final String BROTLI = "br";
+    public static final String GZIP = "gzip";
+    public static final String IDENTITY = "identity";
+
+    private static final boolean BROTLI_AVAILABLE = Brotli4jLoader.isAvailable();
+    private static final Encoder.Parameters BROTLI_PARAMETERS = new Encoder.Parameters().setQuality(11);
+
+    private ContentEncodings() {
+    }
+
+    /** False where the Brotli native library could not be loaded; nothing is stored as br then. */
+    public static boolean isBrotliAvailable() {
+        return BROTLI_AVAILABLE;
+    }
+
+    public static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 3 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public static byte[] brotli(byte[] bytes) {
+        if (!BROTLI_AVAILABLE) {
+            return null;
+        }
+        try {
+            return Encoder.compress(bytes, BROTLI_PARAMETERS);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Picks br, then gzip, then identity from what {@code acceptEncoding} allows (q=0 excludes). */
+    public static String negotiate(String acceptEncoding, boolean brotli, boolean gzip) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return IDENTITY;
+        }
+        if (brotli && accepts(acceptEncoding, BROTLI)) {
+            return BROTLI;
+        }
+        if (gzip && accepts(acceptEncoding, GZIP)) {
+            return GZIP;
+        }
+        return IDENTITY;
+    }
+
+    private static boolean accepts(String acceptEncoding, String coding) {
+        Boolean wildcard = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] pieces = part.split(";");
+            String name = pieces[0].trim().toLowerCase(Locale.ROOT);
+            boolean allowed = true;
+            for (int i = 1; i < pieces.length; i++) {
+                String parameter = pieces[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        allowed = Double.parseDouble(parameter.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        allowed = false;
+                    }
+                }
+            }
+            if (name.equals(coding)) {
+                return allowed;
+            }
+            if (name.equals("*")) {
+                wildcard = allowed;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+}
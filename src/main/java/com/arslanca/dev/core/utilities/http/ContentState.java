@@ -0,0 +1,8 @@
+package com.arslanca.dev.core.utilities.http;
+
+import java.time.Instant;
+
+/** Row count and newest {@code updated_at} of a table; any add, edit or delete changes one of them. */
+public record ContentState(
+        long rows,
+        Instant updatedAt) {}
@@ -0,0 +1,122 @@
+package com.arslanca.dev.core.utilities.http;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Current version of each content aggregate, from which the read endpoints derive their ETag and
+ * Last-Modified without building the response. Aggregates stored in the database are tracked by
+ * their {@link ContentState}: a write here bumps the aggregate so the next read reloads it, and
+ * writes on other instances are noticed once the loaded state is older than the configured TTL.
+ * Because the tag is derived from that state, every instance hands out the same ETag for the same
+ * content, also across restarts. Aggregates held in memory only get a counter, bumped by whoever
+ * owns the data.
+ */
+@Component
+public class ContentVersions {
+
+    public static final String BLOGS = "blogs";
+    public static final String TECH_STACKS = "techstacks";
+    public static final String PINNED_PROJECTS = "pinned-projects";
+    public static final String PROJECTS = "projects";
+    public static final String CONFIG = "config";
+
+    @Value("${app.http.content-version.ttl-ms:10000}")
+    private long ttlMs;
+
+    private final long startedAt = System.currentTimeMillis();
+    private final Map<String, Tracked> tracked = new ConcurrentHashMap<>();
+    private final Map<String, Version> local = new ConcurrentHashMap<>();
+    private final AtomicLong counter = new AtomicLong();
+
+    /** Derives the version of {@code aggregate} from {@code source} from now on. */
+    public void track(String aggregate, Supplier<ContentState> source) {
+        tracked.put(aggregate, new Tracked(source));
+    }
+
+    /**
+     * Called after every write to {@code aggregate}. Inside a transaction the bump waits for the
+     * commit, so a read in between cannot load the old state and keep it as the new version.
+     */
+    public void bump(String aggregate) {
+        Tracked entry = tracked.get(aggregate);
+        if (entry != null) {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        entry.writes.incrementAndGet();
+                    }
+                });
+            } else {
+                entry.writes.incrementAndGet();
+            }
+        } else {
+            local.put(aggregate, new Version(etag(aggregate, Long.toString(startedAt, 36) + "." + counter.incrementAndGet()), System.currentTimeMillis()));
+        }
+    }
+
+    public Version current(String aggregate) {
+        Tracked entry = tracked.get(aggregate);
+        if (entry == null) {
+            return local.computeIfAbsent(aggregate, name -> new Version(etag(name, Long.toString(startedAt, 36) + ".0"), startedAt));
+        }
+        long now = System.currentTimeMillis();
+        Loaded loaded = entry.loaded;
+        // read before loading: a write that lands during the query makes this load stale right away
+        long writes = entry.writes.get();
+        if (loaded != null && loaded.writes() == writes && now - loaded.loadedAt() < ttlMs) {
+            return loaded.version();
+        }
+        ContentState state = entry.source.get();
+        Version version;
+        if (loaded != null && loaded.state().equals(state)) {
+            version = loaded.version();
+        } else {
+            String tag = etag(aggregate, state.rows() + "." + (state.updatedAt() == null ? "0" : Long.toString(ChronoUnit.MICROS.between(Instant.EPOCH, state.updatedAt()), 36)));
+            version = new Version(tag, lastModified(loaded, state, now));
+        }
+        entry.loaded = new Loaded(state, version, writes, now);
+        return version;
+    }
+
+    // A delete leaves the newest updated_at where it was, so the content counts as changed when it
+    // was noticed. Rows written before the column existed have none; those fall back to startup.
+    private long lastModified(Loaded previous, ContentState state, long now) {
+        long updatedAt = state.updatedAt() == null ? 0 : state.updatedAt().toEpochMilli();
+        if (previous == null) {
+            return updatedAt > 0 ? updatedAt : startedAt;
+        }
+        return updatedAt > previous.version().lastModified() ? updatedAt : now;
+    }
+
+    private static String etag(String aggregate, String stamp) {
+        return "W/\"" + aggregate + "-" + stamp + "\"";
+    }
+
+    /** Weak ETag, already quoted, and Last-Modified in epoch milliseconds. */
+    public record Version(String etag, long lastModified) {
+    }
+
+    private record Loaded(ContentState state, Version version, long writes, long loadedAt) {
+    }
+
+    private static final class Tracked {
+        private final Supplier<ContentState> source;
+        private final AtomicLong writes = new AtomicLong();
+        private volatile Loaded loaded;
+
+        private Tracked(Supplier<ContentState> source) {
+            this.source = source;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.arslanca.dev.core.utilities.http;
+
+/** Bytes ready to be written as a response body, already in {@code encoding}. */
+public record EncodedBody(
+        String encoding,
+        byte[] bytes) {}
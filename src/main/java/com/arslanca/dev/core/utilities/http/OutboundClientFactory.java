@@ -0,0 +1,130 @@
+package com.arslanca.dev.core.utilities.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hands out {@link RestClient} builders for named upstreams. Every upstream gets its own pooled
+ * keep-alive JDK client with connect and read timeouts, a concurrency bulkhead and a circuit
+ * breaker, and records a latency histogram as {@code http.client.upstream}. Calls rejected by the
+ * bulkhead or an open circuit throw {@link UpstreamUnavailableException} so callers can fall back
+ * to what they have cached.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboundClientFactory {
+
+    private final RestClient.Builder restClientBuilder;
+    private final UpstreamProperties upstreamProperties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Upstream> upstreams = new ConcurrentHashMap<>();
+
+    public RestClient.Builder builder(String name) {
+        Upstream upstream = upstreams.computeIfAbsent(name, this::createUpstream);
+        RestClient.Builder builder = restClientBuilder.clone()
+                .requestFactory(upstream.requestFactory)
+                .requestInterceptor(upstream);
+        if (upstream.settings.getBaseUrl() != null) {
+            builder.baseUrl(upstream.settings.getBaseUrl());
+        }
+        return builder;
+    }
+
+    private Upstream createUpstream(String name) {
+        UpstreamProperties.Upstream settings = upstreamProperties.get(name);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(settings.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(settings.getReadTimeout());
+        Upstream upstream = new Upstream(name, settings, requestFactory);
+        Gauge.builder("http.client.circuit.open", upstream.circuitBreaker, breaker -> breaker.isOpen() ? 1 : 0)
+                .tag("upstream", name)
+                .register(meterRegistry);
+        return upstream;
+    }
+
+    private final class Upstream implements ClientHttpRequestInterceptor {
+        private final String name;
+        private final UpstreamProperties.Upstream settings;
+        private final JdkClientHttpRequestFactory requestFactory;
+        private final Semaphore bulkhead;
+        private final CircuitBreaker circuitBreaker;
+
+        Upstream(String name, UpstreamProperties.Upstream settings, JdkClientHttpRequestFactory requestFactory) {
+            this.name = name;
+            this.settings = settings;
+            this.requestFactory = requestFactory;
+            this.bulkhead = new Semaphore(settings.getMaxConcurrent());
+            this.circuitBreaker = new CircuitBreaker(settings.getFailureThreshold(), settings.getOpenDuration().toNanos(), System::nanoTime);
+        }
+
+        @Override
+        public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+            if (!bulkhead.tryAcquire()) {
+                meterRegistry.counter("http.client.upstream.rejected", "upstream", name, "reason", "bulkhead").increment();
+                throw new UpstreamUnavailableException(name + " has too many calls in flight");
+            }
+            try {
+                if (!circuitBreaker.tryAcquire()) {
+                    meterRegistry.counter("http.client.upstream.rejected", "upstream", name, "reason", "circuit_open").increment();
+                    throw new UpstreamUnavailableException(name + " circuit is open");
+                }
+                long start = System.nanoTime();
+                try {
+                    ClientHttpResponse response = execution.execute(request, body);
+                    HttpStatusCode status = response.getStatusCode();
+                    if (status.is5xxServerError() || status.value() == 429) {
+                        circuitBreaker.onFailure();
+                        record("failure", System.nanoTime() - start);
+                    } else {
+                        circuitBreaker.onSuccess();
+                        record("success", System.nanoTime() - start);
+                    }
+                    return response;
+                } catch (CancellationException e) {
+                    // the JDK request factory cancels the exchange on read timeout and lets the
+                    // cancellation escape; surface it as the timeout it is
+                    circuitBreaker.onFailure();
+                    record("failure", System.nanoTime() - start);
+                    throw new HttpTimeoutException(name + " did not respond within " + settings.getReadTimeout());
+                } catch (IOException | RuntimeException e) {
+                    circuitBreaker.onFailure();
+                    record("failure", System.nanoTime() - start);
+                    throw e;
+                }
+            } finally {
+                bulkhead.release();
+            }
+        }
+
+        private void record(String outcome, long nanos) {
+            Timer.builder("http.client.upstream")
+                    .tag("upstream", name)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
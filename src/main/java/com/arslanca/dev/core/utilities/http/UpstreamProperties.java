@@ -0,0 +1,35 @@
+package com.arslanca.dev.core.utilities.http;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-upstream settings for outbound HTTP calls made through {@link OutboundClientFactory}.
+ * Upstreams without an entry get the defaults below.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.http")
+public class UpstreamProperties {
+
+    private Map<String, Upstream> upstreams = new HashMap<>();
+
+    public Upstream get(String name) {
+        return upstreams.computeIfAbsent(name, key -> new Upstream());
+    }
+
+    @Data
+    public static class Upstream {
+        private String baseUrl;
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration readTimeout = Duration.ofSeconds(5);
+        private int maxConcurrent = 8;
+        private int failureThreshold = 5;
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+}
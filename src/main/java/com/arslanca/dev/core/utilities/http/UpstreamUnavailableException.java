@@ -0,0 +1,9 @@
+package com.arslanca.dev.core.utilities.http;
+
+/** Thrown without touching the network when an upstream's circuit is open or its bulkhead is full. */
+public class UpstreamUnavailableException extends RuntimeException {
+
+    public UpstreamUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,58 @@
+package com.arslanca.dev.core.utilities.interceptors;
+
+import com.arslanca.dev.core.utilities.http.ContentVersions;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Answers a read of one content aggregate whose If-None-Match (or If-Modified-Since) matches the
+ * current version with 304 before the controller runs. The version is read before the body is
+ * built, so a write in between only costs the client one more full response, never a stale 304.
+ * Otherwise the version is left on the request and {@link ConditionalGetResponseAdvice} puts it
+ * on the response as ETag and Last-Modified, but only if that turns out to be a success.
+ */
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    static final String VERSION_ATTRIBUTE = ConditionalGetInterceptor.class.getName() + ".version";
+
+    // stored, but checked with us on every use
+    private static final String CACHE_CONTROL = CacheControl.noCache().getHeaderValue();
+
+    private final ContentVersions contentVersions;
+    private final String aggregate;
+    private final String[] varyBy;
+
+    /**
+     * @param varyBy request headers the full responses vary by; a 304 has to repeat them so caches
+     *               keep matching it to the right stored variant
+     */
+    public ConditionalGetInterceptor(ContentVersions contentVersions, String aggregate, String... varyBy) {
+        this.contentVersions = contentVersions;
+        this.aggregate = aggregate;
+        this.varyBy = varyBy;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+        ContentVersions.Version version = contentVersions.current(aggregate);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        // checked without the response first, which would otherwise get the validators right away
+        if (!new ServletWebRequest(request).checkNotModified(version.etag(), version.lastModified())) {
+            request.setAttribute(VERSION_ATTRIBUTE, version);
+            return true;
+        }
+        for (String header : varyBy) {
+            response.addHeader(HttpHeaders.VARY, header);
+        }
+        new ServletWebRequest(request, response).checkNotModified(version.etag(), version.lastModified());
+        return false;
+    }
+}
@@ -0,0 +1,178 @@
+package com.arslanca.dev.core.utilities.ratelimit;
+
+import io.github.bucket4j.Bucket;
+
+import java.time.Duration;
+
+/**
+ * Fixed-capacity table of rate limit buckets keyed by a packed 128-bit client address.
+ * <p>
+ * The table is split into independently locked stripes, each an open-addressing array of
+ * primitives, so lookups for known clients neither allocate nor contend with other clients.
+ * A bucket that has been idle for {@code idleTtl} would have refilled completely, so it is
+ * dropped (or silently replaced on the next hit). When a stripe is full the idle entries go
+ * first and, failing that, the least recently used of a small sample is evicted.
+ */
+class BucketStore {
+
+    private static final int STRIPES = 16;
+    private static final int EVICTION_SAMPLE = 8;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final BucketFactory bucketFactory;
+    private final long idleNanos;
+
+    BucketStore(int maxEntries, Duration idleTtl, BucketFactory bucketFactory) {
+        this.bucketFactory = bucketFactory;
+        this.idleNanos = idleTtl.toNanos();
+        int perStripe = Math.max(1, (maxEntries + STRIPES - 1) / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    Bucket resolve(long high, long low) {
+        long hash = mix(high, low);
+        return stripes[(int) (hash & (STRIPES - 1))].resolve(high, low, hash >>> 4, System.nanoTime());
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    int evictIdle() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        for (Stripe stripe : stripes) {
+            evicted += stripe.evictIdle(now);
+        }
+        return evicted;
+    }
+
+    static long mix(long high, long low) {
+        long h = high * 0x9E3779B97F4A7C15L ^ low;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    @FunctionalInterface
+    interface BucketFactory {
+        Bucket create(long high, long low);
+    }
+
+    private final class Stripe {
+        private final int limit;
+        private final int mask;
+        private final long[] highs;
+        private final long[] lows;
+        private final long[] touched;
+        private final Bucket[] buckets;
+        private int size;
+        private int cursor;
+
+        Stripe(int limit) {
+            this.limit = limit;
+            int tableSize = Integer.highestOneBit(limit * 2 - 1) << 1;
+            this.mask = tableSize - 1;
+            this.highs = new long[tableSize];
+            this.lows = new long[tableSize];
+            this.touched = new long[tableSize];
+            this.buckets = new Bucket[tableSize];
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized Bucket resolve(long high, long low, long hash, long now) {
+            int index = (int) (hash & mask);
+            while (buckets[index] != null) {
+                if (highs[index] == high && lows[index] == low) {
+                    if (now - touched[index] > idleNanos) {
+                        buckets[index] = bucketFactory.create(high, low);
+                    }
+                    touched[index] = now;
+                    return buckets[index];
+                }
+                index = (index + 1) & mask;
+            }
+            if (size >= limit) {
+                evictIdle(now);
+                if (size >= limit) {
+                    evictSampled();
+                }
+                index = (int) (hash & mask);
+                while (buckets[index] != null) {
+                    index = (index + 1) & mask;
+                }
+            }
+            Bucket bucket = bucketFactory.create(high, low);
+            highs[index] = high;
+            lows[index] = low;
+            touched[index] = now;
+            buckets[index] = bucket;
+            size++;
+            return bucket;
+        }
+
+        synchronized int evictIdle(long now) {
+            int evicted = 0;
+            int index = 0;
+            while (index < buckets.length) {
+                if (buckets[index] != null && now - touched[index] > idleNanos) {
+                    removeAt(index);
+                    evicted++;
+                } else {
+                    index++;
+                }
+            }
+            return evicted;
+        }
+
+        private void evictSampled() {
+            int oldest = -1;
+            int seen = 0;
+            for (int probed = 0; probed < buckets.length && seen < EVICTION_SAMPLE; probed++) {
+                cursor = (cursor + 1) & mask;
+                if (buckets[cursor] != null) {
+                    seen++;
+                    if (oldest < 0 || touched[cursor] < touched[oldest]) {
+                        oldest = cursor;
+                    }
+                }
+            }
+            if (oldest >= 0) {
+                removeAt(oldest);
+            }
+        }
+
+        // Backward-shift deletion keeps every remaining key reachable from its home slot.
+        private void removeAt(int hole) {
+            int next = hole;
+            while (true) {
+                next = (next + 1) & mask;
+                if (buckets[next] == null) {
+                    break;
+                }
+                int home = (int) ((mix(highs[next], lows[next]) >>> 4) & mask);
+                boolean stays = hole <= next ? hole < home && home <= next : hole < home || home <= next;
+                if (stays) {
+                    continue;
+                }
+                highs[hole] = highs[next];
+                lows[hole] = lows[next];
+                touched[hole] = touched[next];
+                buckets[hole] = buckets[next];
+                hole = next;
+            }
+            buckets[hole] = null;
+            size--;
+        }
+    }
+}
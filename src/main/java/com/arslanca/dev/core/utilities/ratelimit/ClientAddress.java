@@ -0,0 +1,175 @@
+package com.arslanca.dev.core.utilities.ratelimit;
+
+/**
+ * Packs a textual client address into a 128-bit key without allocating. IPv4 addresses are
+ * stored in their IPv4-mapped IPv6 form so "1.2.3.4" and "::ffff:1.2.3.4" share a bucket.
+ * Anything that does not parse falls back to a 64-bit hash of the raw string.
+ */
+final class ClientAddress {
+
+    private static final long IPV4_MAPPED_PREFIX = 0x0000_FFFF_0000_0000L;
+    private static final long UNPARSED_MARKER = -1L;
+
+    private ClientAddress() {
+    }
+
+    static long high(String address) {
+        return parse(address, true);
+    }
+
+    static long low(String address) {
+        return parse(address, false);
+    }
+
+    private static long parse(String address, boolean wantHigh) {
+        int end = address.indexOf('%');
+        if (end < 0) {
+            end = address.length();
+        }
+        if (address.indexOf(':') < 0) {
+            long ipv4 = parseIpv4(address, 0, end);
+            if (ipv4 < 0) {
+                return unparsed(address, wantHigh);
+            }
+            return wantHigh ? 0L : IPV4_MAPPED_PREFIX | ipv4;
+        }
+
+        long leftHigh = 0, leftLow = 0, rightHigh = 0, rightLow = 0;
+        int leftGroups = 0, rightGroups = 0;
+        boolean compressed = false;
+        int i = 0;
+        if (address.startsWith("::")) {
+            compressed = true;
+            i = 2;
+        }
+        while (i < end) {
+            int j = i;
+            boolean dotted = false;
+            while (j < end && address.charAt(j) != ':') {
+                dotted |= address.charAt(j) == '.';
+                j++;
+            }
+            if (dotted) {
+                long ipv4 = j == end ? parseIpv4(address, i, j) : -1;
+                if (ipv4 < 0) {
+                    return unparsed(address, wantHigh);
+                }
+                if (compressed) {
+                    rightHigh = (rightHigh << 32) | (rightLow >>> 32);
+                    rightLow = (rightLow << 32) | ipv4;
+                    rightGroups += 2;
+                } else {
+                    leftHigh = (leftHigh << 32) | (leftLow >>> 32);
+                    leftLow = (leftLow << 32) | ipv4;
+                    leftGroups += 2;
+                }
+                break;
+            }
+            int group = parseHexGroup(address, i, j);
+            if (group < 0) {
+                return unparsed(address, wantHigh);
+            }
+            if (compressed) {
+                rightHigh = (rightHigh << 16) | (rightLow >>> 48);
+                rightLow = (rightLow << 16) | group;
+                rightGroups++;
+            } else {
+                leftHigh = (leftHigh << 16) | (leftLow >>> 48);
+                leftLow = (leftLow << 16) | group;
+                leftGroups++;
+            }
+            if (j == end) {
+                break;
+            }
+            if (j + 1 < end && address.charAt(j + 1) == ':') {
+                if (compressed) {
+                    return unparsed(address, wantHigh);
+                }
+                compressed = true;
+                i = j + 2;
+            } else if (j + 1 == end) {
+                return unparsed(address, wantHigh);
+            } else {
+                i = j + 1;
+            }
+        }
+
+        int groups = leftGroups + rightGroups;
+        if (compressed ? groups > 7 : groups != 8) {
+            return unparsed(address, wantHigh);
+        }
+        int shift = 16 * (8 - leftGroups);
+        long shiftedHigh;
+        long shiftedLow;
+        if (shift == 0) {
+            shiftedHigh = leftHigh;
+            shiftedLow = leftLow;
+        } else if (shift >= 128) {
+            shiftedHigh = 0;
+            shiftedLow = 0;
+        } else if (shift >= 64) {
+            shiftedHigh = leftLow << (shift - 64);
+            shiftedLow = 0;
+        } else {
+            shiftedHigh = (leftHigh << shift) | (leftLow >>> (64 - shift));
+            shiftedLow = leftLow << shift;
+        }
+        return wantHigh ? shiftedHigh | rightHigh : shiftedLow | rightLow;
+    }
+
+    private static long parseIpv4(String address, int from, int to) {
+        long value = 0;
+        int octets = 0;
+        int i = from;
+        while (i < to) {
+            int octet = 0;
+            int digits = 0;
+            while (i < to && address.charAt(i) != '.') {
+                char c = address.charAt(i++);
+                if (c < '0' || c > '9' || ++digits > 3) {
+                    return -1;
+                }
+                octet = octet * 10 + (c - '0');
+            }
+            if (digits == 0 || octet > 255) {
+                return -1;
+            }
+            value = (value << 8) | octet;
+            octets++;
+            if (i < to) {
+                i++;
+                if (i == to) {
+                    return -1;
+                }
+            }
+        }
+        return octets == 4 ? value : -1;
+    }
+
+    private static int parseHexGroup(String address, int from, int to) {
+        if (to <= from || to - from > 4) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = Character.digit(address.charAt(i), 16);
+            if (digit < 0) {
+                return -1;
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    private static long unparsed(String address, boolean wantHigh) {
+        if (wantHigh) {
+            return UNPARSED_MARKER;
+        }
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < address.length(); i++) {
+            hash ^= address.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
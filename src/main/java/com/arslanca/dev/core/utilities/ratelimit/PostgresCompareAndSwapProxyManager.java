@@ -0,0 +1,69 @@
+package com.arslanca.dev.core.utilities.ratelimit;
+
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.AbstractCompareAndSwapBasedProxyManager;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.AsyncCompareAndSwapOperation;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.CompareAndSwapOperation;
+import io.github.bucket4j.distributed.remote.RemoteBucketState;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Keeps bucket state in the rate_limit_buckets table. Every write is an optimistic
+ * compare-and-swap on the serialized state, so instances never hold row locks; Bucket4j
+ * retries the command when another instance won the race.
+ */
+class PostgresCompareAndSwapProxyManager extends AbstractCompareAndSwapBasedProxyManager<Long> {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    PostgresCompareAndSwapProxyManager(JdbcTemplate jdbcTemplate) {
+        super(ClientSideConfig.getDefault());
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    protected CompareAndSwapOperation beginCompareAndSwapOperation(Long key) {
+        return new CompareAndSwapOperation() {
+            @Override
+            public Optional<byte[]> getStateData() {
+                List<byte[]> rows = jdbcTemplate.query("SELECT state FROM rate_limit_buckets WHERE id = ?",
+                        (rs, rowNum) -> rs.getBytes(1), key);
+                return rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));
+            }
+
+            @Override
+            public boolean compareAndSwap(byte[] originalData, byte[] newData, RemoteBucketState newState) {
+                if (originalData == null) {
+                    return jdbcTemplate.update("INSERT INTO rate_limit_buckets (id, state, updated_at) VALUES (?, ?, now()) " +
+                            "ON CONFLICT (id) DO NOTHING", key, newData) == 1;
+                }
+                return jdbcTemplate.update("UPDATE rate_limit_buckets SET state = ?, updated_at = now() " +
+                        "WHERE id = ? AND state = ?", newData, key, originalData) == 1;
+            }
+        };
+    }
+
+    @Override
+    protected AsyncCompareAndSwapOperation beginAsyncCompareAndSwapOperation(Long key) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void removeProxy(Long key) {
+        jdbcTemplate.update("DELETE FROM rate_limit_buckets WHERE id = ?", key);
+    }
+
+    @Override
+    protected CompletableFuture<Void> removeAsync(Long key) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean isAsyncModeSupported() {
+        return false;
+    }
+}
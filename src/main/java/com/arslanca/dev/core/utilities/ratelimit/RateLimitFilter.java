@@ -0,0 +1,74 @@
+package com.arslanca.dev.core.utilities.ratelimit;
+
+import io.github.bucket4j.ConsumptionProbe;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the first matching {@link RateLimitProperties.Policy} before the request reaches a
+ * controller. Runs right after the JWT filter so authenticated callers get their own tier.
+ * Buckets are keyed on {@code getRemoteAddr()}, which Tomcat's remote IP handling
+ * ({@code server.forward-headers-strategy=native}) has already replaced with the X-Forwarded-For
+ * client when, and only when, the connection comes from a trusted proxy.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitService rateLimitService;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        RateLimitProperties.Policy policy = rateLimitService.match(request.getMethod(), path);
+        if (policy == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean authenticated = isAuthenticated();
+        ConsumptionProbe probe = rateLimitService.tryConsume(policy, authenticated, request.getRemoteAddr());
+
+        response.setHeader("RateLimit-Limit", String.valueOf(policy.limitFor(authenticated).getCapacity()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(probe.getRemainingTokens()));
+        response.setHeader("RateLimit-Reset", String.valueOf(toSeconds(probe.getNanosToWaitForReset())));
+
+        if (!probe.isConsumed()) {
+            response.setHeader("Retry-After", String.valueOf(toSeconds(probe.getNanosToWaitForRefill())));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write(policy.getMessage());
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean isAuthenticated() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken);
+    }
+
+    private long toSeconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,61 @@
+package com.arslanca.dev.core.utilities.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Route based limits enforced by {@link RateLimitFilter}. Policies are checked in order and the
+ * first one whose pattern and method match the request applies.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.ratelimit")
+public class RateLimitProperties {
+
+    private int maxEntries = 50000;
+    private Mode mode = Mode.LOCAL;
+    private Duration syncInterval = Duration.ofMillis(500);
+    private long maxUnsyncedTokens = 2;
+    private List<Policy> policies = new ArrayList<>();
+
+    /**
+     * LOCAL keeps buckets in process. SHARED keeps them in Postgres so every instance sees the
+     * same quota. HYBRID also uses Postgres but lets each instance spend up to
+     * {@code maxUnsyncedTokens} locally for at most {@code syncInterval} before syncing.
+     * The top-level mode is the default for write policies; see {@link Policy#getMode()}.
+     */
+    public enum Mode {
+        LOCAL, SHARED, HYBRID
+    }
+
+    @Data
+    public static class Policy {
+        private String name;
+        private String pattern;
+        private List<String> methods = new ArrayList<>();
+        private Limit anonymous;
+        private Limit authenticated;
+        private String message = "Too many requests. Please try again later.";
+        /**
+         * Backend for this policy's buckets. When unset, policies that only cover read methods stay
+         * LOCAL, since an N-fold read quota across instances is harmless and not worth a database
+         * round trip per request, and every other policy uses the top-level mode.
+         */
+        private Mode mode;
+
+        public Limit limitFor(boolean isAuthenticated) {
+            return isAuthenticated && authenticated != null ? authenticated : anonymous;
+        }
+    }
+
+    @Data
+    public static class Limit {
+        private long capacity;
+        private Duration period;
+    }
+}
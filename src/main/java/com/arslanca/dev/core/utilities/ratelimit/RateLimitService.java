@@ -1,38 +1,148 @@
 package com.arslanca.dev.core.utilities.ratelimit;
 
+import com.arslanca.dev.dataAccess.RateLimitBucketRepository;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
 import io.github.bucket4j.Refill;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.RemoteBucketBuilder;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.util.AntPathMatcher;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.IdentityHashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 
+@Slf4j
 @Service
+@RequiredArgsConstructor
 public class RateLimitService {
-    private final Map<String, Bucket> cache = new ConcurrentHashMap<>();
 
-    public Bucket resolveBucket(String ipAddress) {
-        return cache.computeIfAbsent(ipAddress, this::newBucket);
+    private static final int STALE_BATCH_SIZE = 1000;
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final RateLimitProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final RateLimitBucketRepository rateLimitBucketRepository;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<RateLimitProperties.Limit, BucketStore> stores = new IdentityHashMap<>();
+    private ProxyManager<Long> proxyManager;
+    private Duration longestPeriod = Duration.ZERO;
+
+    @PostConstruct
+    public void init() {
+        int shared = 0;
+        for (RateLimitProperties.Policy policy : properties.getPolicies()) {
+            RateLimitProperties.Mode mode = modeFor(policy);
+            if (mode != RateLimitProperties.Mode.LOCAL) {
+                if (proxyManager == null) {
+                    proxyManager = new PostgresCompareAndSwapProxyManager(jdbcTemplate);
+                }
+                shared++;
+            }
+            register(policy.getAnonymous(), mode);
+            register(policy.getAuthenticated(), mode);
+        }
+        log.info("Rate limiting with {} limits, {} of {} policies on the shared backend",
+                stores.size(), shared, properties.getPolicies().size());
     }
 
-    public Bucket resolveLoginBucket(String ipAddress) {
-        return cache.computeIfAbsent("login:" + ipAddress, this::newLoginBucket);
+    RateLimitProperties.Mode modeFor(RateLimitProperties.Policy policy) {
+        if (policy.getMode() != null) {
+            return policy.getMode();
+        }
+        boolean readOnly = !policy.getMethods().isEmpty() && READ_METHODS.containsAll(policy.getMethods());
+        return readOnly ? RateLimitProperties.Mode.LOCAL : properties.getMode();
     }
 
-    private Bucket newLoginBucket(String apiKey) {
-        Bandwidth limit = Bandwidth.classic(5, Refill.greedy(5, Duration.ofMinutes(15)));
-        return Bucket.builder()
-                .addLimit(limit)
-                .build();
+    public RateLimitProperties.Policy match(String method, String path) {
+        for (RateLimitProperties.Policy policy : properties.getPolicies()) {
+            if ((policy.getMethods().isEmpty() || policy.getMethods().contains(method))
+                    && pathMatcher.match(policy.getPattern(), path)) {
+                return policy;
+            }
+        }
+        return null;
     }
 
-    private Bucket newBucket(String apiKey) {
-        Bandwidth limit = Bandwidth.classic(3, Refill.greedy(3, Duration.ofHours(1)));
+    public ConsumptionProbe tryConsume(RateLimitProperties.Policy policy, boolean authenticated, String ipAddress) {
+        BucketStore store = stores.get(policy.limitFor(authenticated));
+        return store.resolve(ClientAddress.high(ipAddress), ClientAddress.low(ipAddress))
+                .tryConsumeAndReturnRemaining(1);
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdleBuckets() {
+        int evicted = 0;
+        for (BucketStore store : stores.values()) {
+            evicted += store.evictIdle();
+        }
+        if (evicted > 0) {
+            log.debug("Evicted {} idle rate limit buckets", evicted);
+        }
+        if (proxyManager != null) {
+            purgeStaleSharedBuckets();
+        }
+    }
 
+    // A shared row untouched for longer than the longest refill period is a full bucket anyway.
+    private void purgeStaleSharedBuckets() {
+        try {
+            Instant cutoff = Instant.now().minus(longestPeriod);
+            int deleted;
+            do {
+                deleted = rateLimitBucketRepository.deleteStaleBatch(cutoff, STALE_BATCH_SIZE);
+            } while (deleted == STALE_BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("Error during shared rate limit bucket cleanup", e);
+        }
+    }
+
+    // Each limit gets its own store so policies and tiers never share buckets. In shared modes
+    // the store caches proxies, which is also where the hybrid mode keeps its unsynced tokens.
+    private void register(RateLimitProperties.Limit limit, RateLimitProperties.Mode mode) {
+        if (limit == null) {
+            return;
+        }
+        if (limit.getPeriod().compareTo(longestPeriod) > 0) {
+            longestPeriod = limit.getPeriod();
+        }
+        long limitId = stores.size() + 1;
+        BucketStore.BucketFactory factory = mode == RateLimitProperties.Mode.LOCAL
+                ? (high, low) -> newBucket(limit)
+                : (high, low) -> newSharedBucket(limit, mode, BucketStore.mix(high * 31 + limitId, low));
+        stores.put(limit, new BucketStore(properties.getMaxEntries(), limit.getPeriod(), factory));
+    }
+
+    private Bucket newBucket(RateLimitProperties.Limit limit) {
         return Bucket.builder()
-                .addLimit(limit)
+                .addLimit(bandwidth(limit))
                 .build();
     }
+
+    private Bucket newSharedBucket(RateLimitProperties.Limit limit, RateLimitProperties.Mode mode, long key) {
+        RemoteBucketBuilder<Long> builder = proxyManager.builder();
+        if (mode == RateLimitProperties.Mode.HYBRID) {
+            builder.withOptimization(Optimizations.delaying(
+                    new DelayParameters(properties.getMaxUnsyncedTokens(), properties.getSyncInterval())));
+        }
+        return builder.build(key, BucketConfiguration.builder()
+                .addLimit(bandwidth(limit))
+                .build());
+    }
+
+    private Bandwidth bandwidth(RateLimitProperties.Limit limit) {
+        return Bandwidth.classic(limit.getCapacity(), Refill.greedy(limit.getCapacity(), limit.getPeriod()));
+    }
 }
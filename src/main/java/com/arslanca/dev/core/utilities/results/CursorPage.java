@@ -0,0 +1,12 @@
+package com.arslanca.dev.core.utilities.results;
+
+import java.util.List;
+
+/**
+ * One slice of a keyset-paginated listing. {@code nextCursor} is null on the last slice;
+ * {@code totalElements} is only filled in when the caller asked for it.
+ */
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor,
+        Long totalElements) {}
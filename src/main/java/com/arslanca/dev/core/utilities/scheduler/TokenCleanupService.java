@@ -2,14 +2,17 @@ package com.arslanca.dev.core.utilities.scheduler;
 
 import com.arslanca.dev.dataAccess.RefreshTokenRepository;
 import com.arslanca.dev.dataAccess.RevokedTokenRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntUnaryOperator;
 
 @Slf4j
 @Component
@@ -19,12 +22,19 @@ public class TokenCleanupService {
 
     private final RevokedTokenRepository revokedTokenRepository;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.security.cleanup.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.security.cleanup.time-budget-ms:10000}")
+    private long timeBudgetMs;
+
     @Scheduled(cron = "0 0 * * * *")
-    @Transactional
     public void cleanupExpiredRevokedTokens() {
         try {
             Instant now = Instant.now();
-            int deleted = revokedTokenRepository.deleteByExpiryDateBefore(now);
+            int deleted = purgeInBatches("revoked_token", limit -> revokedTokenRepository.deleteExpiredBatch(now, limit));
             if (deleted > 0) {
                 log.info("Cleaned up {} expired revoked access tokens", deleted);
             }
@@ -33,11 +43,10 @@ public class TokenCleanupService {
         }
     }
     @Scheduled(cron = "0 0 2 * * *") // Every day at 2:00 AM
-    @Transactional
     public void cleanupExpiredRefreshTokens() {
         try {
             Instant now = Instant.now();
-            int deleted = refreshTokenRepository.deleteByExpiryDateBefore(now);
+            int deleted = purgeInBatches("refresh_token", limit -> refreshTokenRepository.deleteExpiredBatch(now, limit));
             if (deleted > 0) {
                 log.info("Cleaned up {} expired refresh tokens", deleted);
             }
@@ -46,11 +55,11 @@ public class TokenCleanupService {
         }
     }
     @Scheduled(cron = "0 0 3 * * SUN")
-    @Transactional
     public void cleanupOldRevokedRefreshTokens() {
         try {
             Instant thirtyDaysAgo = Instant.now().minusSeconds(30L * 24 * 60 * 60);
-            int deleted = refreshTokenRepository.deleteByRevokedAndExpiryDateBefore(true, thirtyDaysAgo);
+            int deleted = purgeInBatches("refresh_token",
+                    limit -> refreshTokenRepository.deleteRevokedExpiredBatch(true, thirtyDaysAgo, limit));
             if (deleted > 0) {
                 log.info("Cleaned up {} old revoked refresh tokens", deleted);
             }
@@ -58,4 +67,27 @@ public class TokenCleanupService {
             log.error("Error during old revoked refresh token cleanup", e);
         }
     }
+
+    // Each batch commits on its own so locks and WAL stay small; whatever is left over
+    // once the time budget runs out is picked up by the next scheduled run.
+    private int purgeInBatches(String table, IntUnaryOperator deleteBatch) {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeBudgetMs);
+        int total = 0;
+        while (true) {
+            int deleted = deleteBatch.applyAsInt(batchSize);
+            total += deleted;
+            if (deleted < batchSize) {
+                break;
+            }
+            log.debug("Purged {} rows from {} so far", total, table);
+            if (System.nanoTime() > deadline) {
+                log.info("Cleanup of {} hit its {} ms budget after {} rows, continuing next run", table, timeBudgetMs, total);
+                break;
+            }
+        }
+        meterRegistry.counter("token.cleanup.rows", "table", table).increment(total);
+        meterRegistry.timer("token.cleanup.duration", "table", table).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return total;
+    }
 }
@@ -0,0 +1,257 @@
+package com.arslanca.dev.core.utilities.search;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over a few weighted text fields per document, ranked with BM25.
+ * Terms are lower-cased and accent-folded (so "sıralama" matches "siralama"), and documents are
+ * replaced as a whole on every write. Only the first {@code storedChars} of each field are kept for
+ * snippets; a match further in still counts for ranking, its snippet just shows the field's start.
+ */
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final int storedChars;
+    private final float[] fieldWeights;
+    private final Map<String, Map<Integer, Float>> postings = new HashMap<>();
+    private final Map<Integer, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private double totalLength;
+
+    public InvertedIndex(float... fieldWeights) {
+        this(Integer.MAX_VALUE, fieldWeights);
+    }
+
+    public InvertedIndex(int storedChars, float... fieldWeights) {
+        this.storedChars = storedChars;
+        this.fieldWeights = fieldWeights;
+    }
+
+    /** Adds or replaces document {@code id}; {@code fields} line up with the weights. */
+    public void put(int id, String... fields) {
+        Map<String, Float> frequencies = new HashMap<>();
+        float length = 0;
+        String[] stored = new String[fields.length];
+        boolean[] cut = new boolean[fields.length];
+        for (int field = 0; field < fields.length; field++) {
+            for (Token token : tokenize(fields[field])) {
+                frequencies.merge(token.term(), fieldWeights[field], Float::sum);
+                length += fieldWeights[field];
+            }
+            // snippet text is cut at a word boundary
+            stored[field] = fields[field];
+            if (fields[field] != null && fields[field].length() > storedChars) {
+                int space = fields[field].lastIndexOf(' ', storedChars);
+                stored[field] = fields[field].substring(0, space > 0 ? space : storedChars);
+                cut[field] = true;
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            frequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(id, frequency));
+            documents.put(id, new Document(stored, cut, frequencies.keySet().toArray(String[]::new), length));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Best {@code limit} documents containing any query term, highest score first. */
+    public Result search(String query, int limit) {
+        Set<String> terms = new HashSet<>();
+        tokenize(query).forEach(token -> terms.add(token.term()));
+        lock.readLock().lock();
+        try {
+            if (terms.isEmpty() || documents.isEmpty()) {
+                return new Result(List.of(), 0);
+            }
+            int documentCount = documents.size();
+            double averageLength = totalLength / documentCount;
+            Map<Integer, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Map<Integer, Float> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                posting.forEach((id, frequency) -> {
+                    double norm = K1 * (1 - B + B * documents.get(id).length() / averageLength);
+                    scores.merge(id, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                });
+            }
+            PriorityQueue<Hit> best = new PriorityQueue<>(Comparator.comparingDouble(Hit::score));
+            scores.forEach((id, score) -> {
+                if (best.size() < limit) {
+                    best.add(new Hit(id, score));
+                } else if (limit > 0 && best.peek().score() < score) {
+                    best.poll();
+                    best.add(new Hit(id, score));
+                }
+            });
+            List<Hit> hits = new ArrayList<>(best);
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed());
+            return new Result(hits, scores.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * HTML-escaped excerpt of {@code field} around the first query match with every matching
+     * word wrapped in {@code <mark>}; the start of the field when nothing matches.
+     */
+    public String snippet(int id, int field, String query, int maxLength) {
+        Document document;
+        lock.readLock().lock();
+        try {
+            document = documents.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+        String text = document == null ? null : document.fields()[field];
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        boolean cut = document.cut()[field];
+        Set<String> terms = new HashSet<>();
+        tokenize(query).forEach(token -> terms.add(token.term()));
+        List<Token> matches = tokenize(text).stream().filter(token -> terms.contains(token.term())).toList();
+
+        int start = 0;
+        if (!matches.isEmpty() && matches.get(0).end() > maxLength) {
+            start = wordStart(text, Math.max(0, matches.get(0).start() - maxLength / 4), matches.get(0).start());
+        }
+        int end = Math.min(text.length(), start + maxLength);
+        if (end < text.length()) {
+            int space = text.lastIndexOf(' ', end);
+            end = space > start ? space : end;
+        }
+
+        StringBuilder snippet = new StringBuilder(maxLength + 32);
+        if (start > 0) {
+            snippet.append('…');
+        }
+        int position = start;
+        for (Token match : matches) {
+            if (match.start() < start || match.end() > end) {
+                continue;
+            }
+            snippet.append(HtmlUtils.htmlEscape(text.substring(position, match.start())))
+                    .append("<mark>")
+                    .append(HtmlUtils.htmlEscape(text.substring(match.start(), match.end())))
+                    .append("</mark>");
+            position = match.end();
+        }
+        snippet.append(HtmlUtils.htmlEscape(text.substring(position, end)));
+        if (end < text.length() || cut) {
+            snippet.append('…');
+        }
+        return snippet.toString();
+    }
+
+    static List<Token> tokenize(String text) {
+        List<Token> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && !Character.isLetterOrDigit(text.codePointAt(i))) {
+                i += Character.charCount(text.codePointAt(i));
+            }
+            int start = i;
+            while (i < length && (Character.isLetterOrDigit(text.codePointAt(i)) || Character.getType(text.codePointAt(i)) == Character.NON_SPACING_MARK)) {
+                i += Character.charCount(text.codePointAt(i));
+            }
+            if (i - start > 1) {
+                tokens.add(new Token(fold(text.substring(start, i)), start, i));
+            }
+        }
+        return tokens;
+    }
+
+    private static String fold(String word) {
+        String lower = word.toLowerCase(Locale.ROOT).replace('ı', 'i');
+        return COMBINING_MARKS.matcher(Normalizer.normalize(lower, Normalizer.Form.NFD)).replaceAll("");
+    }
+
+    private static int wordStart(String text, int index, int limit) {
+        int space = text.indexOf(' ', index);
+        return space < 0 || space >= limit ? index : space + 1;
+    }
+
+    private void removeLocked(int id) {
+        Document previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.terms()) {
+            Map<Integer, Float> posting = postings.get(term);
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= previous.length();
+    }
+
+    public record Hit(int id, double score) {
+    }
+
+    public record Result(List<Hit> hits, int total) {
+    }
+
+    record Token(String term, int start, int end) {
+    }
+
+    private record Document(String[] fields, boolean[] cut, String[] terms, float length) {
+    }
+}
@@ -0,0 +1,265 @@
+package com.arslanca.dev.core.utilities.search;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Radix trie from normalised text to suggestion values. Every word start of a text is a key, so
+ * "spr" finds "Virtual threads in Spring". Nodes are immutable and writers copy only the path
+ * they change before swapping the root, so lookups run without locks. Lookups fold the prefix
+ * character by character and add to the caller's list, so they allocate nothing else.
+ */
+public class SuggestionTrie<T> {
+
+    private static final Node EMPTY = new Node(new char[0], new Node[0], new Object[0]);
+
+    private volatile Node root = EMPTY;
+
+    /** Adds {@code value} under every word start of {@code text}. */
+    public synchronized void put(String text, T value) {
+        char[] key = normalise(text);
+        Node updated = root;
+        for (int start = 0; start < key.length; start = nextWord(key, start)) {
+            updated = insert(updated, key, start, value);
+        }
+        root = updated;
+    }
+
+    /** Removes {@code value} from every key of {@code text}; the same text it was put with. */
+    public synchronized void remove(String text, T value) {
+        char[] key = normalise(text);
+        Node updated = root;
+        for (int start = 0; start < key.length; start = nextWord(key, start)) {
+            updated = delete(updated, key, start, value);
+        }
+        root = updated;
+    }
+
+    public synchronized void clear() {
+        root = EMPTY;
+    }
+
+    /** Adds up to {@code limit} values whose text has a word starting with {@code prefix} to {@code out}. */
+    public void collect(String prefix, int limit, List<T> out) {
+        Node node = root;
+        Node edge = null;
+        int matched = 0;
+        boolean started = false;
+        boolean space = false;
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = fold(prefix.charAt(i));
+            if (c == ' ') {
+                space = started;
+                continue;
+            }
+            // a run of separators in the prefix stands for the single space stored in the key
+            for (int k = space ? 0 : 1; k < 2; k++) {
+                char next = k == 0 ? ' ' : c;
+                if (edge != null && matched < edge.label.length) {
+                    if (edge.label[matched++] != next) {
+                        return;
+                    }
+                } else {
+                    if (edge != null) {
+                        node = edge;
+                    }
+                    edge = child(node, next);
+                    if (edge == null) {
+                        return;
+                    }
+                    matched = 1;
+                }
+            }
+            space = false;
+            started = true;
+        }
+        if (edge != null) {
+            collect(edge, limit, out);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void collect(Node node, int limit, List<T> out) {
+        for (Object value : node.values) {
+            if (out.size() >= limit) {
+                return;
+            }
+            if (!out.contains(value)) {
+                out.add((T) value);
+            }
+        }
+        for (Node child : node.children) {
+            if (out.size() >= limit) {
+                return;
+            }
+            collect(child, limit, out);
+        }
+    }
+
+    private static Node insert(Node node, char[] key, int offset, Object value) {
+        if (offset == key.length) {
+            for (Object existing : node.values) {
+                if (existing.equals(value)) {
+                    return node;
+                }
+            }
+            Object[] values = Arrays.copyOf(node.values, node.values.length + 1);
+            values[node.values.length] = value;
+            return new Node(node.label, node.children, values);
+        }
+        int index = childIndex(node, key[offset]);
+        if (index < 0) {
+            Node leaf = new Node(Arrays.copyOfRange(key, offset, key.length), EMPTY.children, new Object[]{value});
+            return node.withChild(-index - 1, leaf, true);
+        }
+        Node child = node.children[index];
+        int common = commonPrefix(child.label, key, offset);
+        if (common < child.label.length) {
+            // split the edge where the new key leaves it
+            Node tail = new Node(Arrays.copyOfRange(child.label, common, child.label.length), child.children, child.values);
+            child = new Node(Arrays.copyOf(child.label, common), new Node[]{tail}, EMPTY.values);
+        }
+        return node.withChild(index, insert(child, key, offset + common, value), false);
+    }
+
+    private static Node delete(Node node, char[] key, int offset, Object value) {
+        if (offset == key.length) {
+            int at = -1;
+            for (int i = 0; i < node.values.length; i++) {
+                if (node.values[i].equals(value)) {
+                    at = i;
+                }
+            }
+            if (at < 0) {
+                return node;
+            }
+            Object[] values = new Object[node.values.length - 1];
+            System.arraycopy(node.values, 0, values, 0, at);
+            System.arraycopy(node.values, at + 1, values, at, values.length - at);
+            return new Node(node.label, node.children, values);
+        }
+        int index = childIndex(node, key[offset]);
+        if (index < 0) {
+            return node;
+        }
+        Node child = node.children[index];
+        int common = commonPrefix(child.label, key, offset);
+        if (common < child.label.length) {
+            return node;
+        }
+        Node updated = delete(child, key, offset + common, value);
+        if (updated == child) {
+            return node;
+        }
+        if (updated.values.length == 0 && updated.children.length == 0) {
+            return node.withoutChild(index);
+        }
+        if (updated.values.length == 0 && updated.children.length == 1) {
+            // keep the trie compressed: fold a lone child back into its parent edge
+            Node only = updated.children[0];
+            char[] label = Arrays.copyOf(updated.label, updated.label.length + only.label.length);
+            System.arraycopy(only.label, 0, label, updated.label.length, only.label.length);
+            updated = new Node(label, only.children, only.values);
+        }
+        return node.withChild(index, updated, false);
+    }
+
+    private static Node child(Node node, char c) {
+        int index = childIndex(node, c);
+        return index < 0 ? null : node.children[index];
+    }
+
+    // binary search on the first label character, Arrays.binarySearch style result
+    private static int childIndex(Node node, char c) {
+        int low = 0;
+        int high = node.children.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char first = node.children[mid].label[0];
+            if (first < c) {
+                low = mid + 1;
+            } else if (first > c) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int commonPrefix(char[] label, char[] key, int offset) {
+        int i = 0;
+        while (i < label.length && offset + i < key.length && label[i] == key[offset + i]) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int nextWord(char[] key, int start) {
+        int space = start;
+        while (space < key.length && key[space] != ' ') {
+            space++;
+        }
+        return space + 1;
+    }
+
+    // folded, with every run of separators collapsed to one space and none at either end
+    private static char[] normalise(String text) {
+        char[] key = new char[text == null ? 0 : text.length()];
+        int length = 0;
+        for (int i = 0; i < key.length; i++) {
+            char c = fold(text.charAt(i));
+            if (c != ' ') {
+                key[length++] = c;
+            } else if (length > 0 && key[length - 1] != ' ') {
+                key[length++] = ' ';
+            }
+        }
+        if (length > 0 && key[length - 1] == ' ') {
+            length--;
+        }
+        return Arrays.copyOf(key, length);
+    }
+
+    /** Lower case without the usual Turkish and Latin-1 accents; anything not a letter or digit becomes a space. */
+    static char fold(char c) {
+        if (!Character.isLetterOrDigit(c)) {
+            return ' ';
+        }
+        return switch (Character.toLowerCase(c)) {
+            case 'ç' -> 'c';
+            case 'ğ' -> 'g';
+            case 'ı', 'i', 'í', 'ì', 'î', 'ï' -> 'i';
+            case 'ö', 'ó', 'ò', 'ô', 'õ' -> 'o';
+            case 'ş' -> 's';
+            case 'ü', 'ú', 'ù', 'û' -> 'u';
+            case 'á', 'à', 'â', 'ä', 'ã' -> 'a';
+            case 'é', 'è', 'ê', 'ë' -> 'e';
+            case 'ñ' -> 'n';
+            default -> Character.toLowerCase(c);
+        };
+    }
+
+    private record Node(char[] label, Node[] children, Object[] values) {
+
+        Node withChild(int index, Node child, boolean insert) {
+            Node[] updated;
+            if (insert) {
+                updated = new Node[children.length + 1];
+                System.arraycopy(children, 0, updated, 0, index);
+                System.arraycopy(children, index, updated, index + 1, children.length - index);
+            } else {
+                updated = children.clone();
+            }
+            updated[index] = child;
+            return new Node(label, updated, values);
+        }
+
+        Node withoutChild(int index) {
+            Node[] updated = new Node[children.length - 1];
+            System.arraycopy(children, 0, updated, 0, index);
+            System.arraycopy(children, index + 1, updated, index, updated.length - index);
+            return new Node(label, updated, values);
+        }
+    }
+}
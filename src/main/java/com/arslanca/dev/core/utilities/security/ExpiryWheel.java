@@ -0,0 +1,86 @@
+package com.arslanca.dev.core.utilities.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * Two-level hierarchical timing wheel for 64-bit keys. Scheduling is O(1) and each expired key
+ * is handed back once, so callers never have to scan their whole map to find what expired.
+ * The inner wheel has one slot per tick, the outer wheel one slot per full inner rotation and
+ * anything further out waits in an overflow list until the outer wheel wraps.
+ */
+class ExpiryWheel {
+
+    private static final int SLOTS = 64;
+
+    private final long tickSeconds;
+    private final List<List<Entry>> inner = newSlots();
+    private final List<List<Entry>> outer = newSlots();
+    private List<Entry> overflow = new ArrayList<>();
+    private long currentTick;
+
+    ExpiryWheel(long tickSeconds, long nowEpochSecond) {
+        this.tickSeconds = tickSeconds;
+        this.currentTick = nowEpochSecond / tickSeconds;
+    }
+
+    synchronized void schedule(long key, long expiresAtEpochSecond) {
+        // the current slot has already been drained, so the earliest a new key can fire is the next tick
+        place(new Entry(key, expiresAtEpochSecond), currentTick + 1);
+    }
+
+    /** Moves the wheel to {@code nowEpochSecond} and passes every key that fell due to {@code expired}. */
+    synchronized void advance(long nowEpochSecond, LongConsumer expired) {
+        long target = nowEpochSecond / tickSeconds;
+        while (currentTick < target) {
+            currentTick++;
+            if (currentTick % ((long) SLOTS * SLOTS) == 0) {
+                List<Entry> pending = overflow;
+                overflow = new ArrayList<>();
+                pending.forEach(entry -> place(entry, currentTick));
+            }
+            if (currentTick % SLOTS == 0) {
+                cascade(outer.get((int) ((currentTick / SLOTS) % SLOTS)));
+            }
+            List<Entry> due = inner.get((int) (currentTick % SLOTS));
+            for (Entry entry : due) {
+                expired.accept(entry.key());
+            }
+            due.clear();
+        }
+    }
+
+    private void cascade(List<Entry> slot) {
+        List<Entry> pending = new ArrayList<>(slot);
+        slot.clear();
+        pending.forEach(entry -> place(entry, currentTick));
+    }
+
+    private void place(Entry entry, long earliestTick) {
+        long tick = Math.max(ceilDiv(entry.expiresAt(), tickSeconds), earliestTick);
+        long delta = tick - currentTick;
+        if (delta < SLOTS) {
+            inner.get((int) (tick % SLOTS)).add(entry);
+        } else if (delta < (long) SLOTS * SLOTS) {
+            outer.get((int) ((tick / SLOTS) % SLOTS)).add(entry);
+        } else {
+            overflow.add(entry);
+        }
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+
+    private static List<List<Entry>> newSlots() {
+        List<List<Entry>> slots = new ArrayList<>(SLOTS);
+        for (int i = 0; i < SLOTS; i++) {
+            slots.add(new ArrayList<>());
+        }
+        return slots;
+    }
+
+    private record Entry(long key, long expiresAt) {
+    }
+}
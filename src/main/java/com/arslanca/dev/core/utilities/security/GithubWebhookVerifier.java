@@ -0,0 +1,48 @@
+package com.arslanca.dev.core.utilities.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+/** Checks the {@code X-Hub-Signature-256} header GitHub signs webhook deliveries with. */
+@Component
+public class GithubWebhookVerifier {
+
+    private static final String SIGNATURE_PREFIX = "sha256=";
+
+    @Value("${app.github.webhook.secret:}")
+    private String secret;
+
+    public boolean isEnabled() {
+        return secret != null && !secret.isBlank();
+    }
+
+    public boolean isValid(byte[] body, String signatureHeader) {
+        if (!isEnabled() || signatureHeader == null || !signatureHeader.startsWith(SIGNATURE_PREFIX)) {
+            return false;
+        }
+        byte[] provided;
+        try {
+            provided = HexFormat.of().parseHex(signatureHeader.substring(SIGNATURE_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return MessageDigest.isEqual(sign(body), provided);
+    }
+
+    public byte[] sign(byte[] body) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return mac.doFinal(body);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.arslanca.dev.core.utilities.security;
 
 import com.arslanca.dev.core.utilities.security.JwtSecurity;
-import com.arslanca.dev.dataAccess.RevokedTokenRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,22 +8,23 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtSecurity jwtService;
-    private final UserDetailsService userDetailsService;
-    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     protected void doFilterInternal(
@@ -51,22 +51,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        if (revokedTokenRepository.findByToken(jwt).isPresent()) {
+        if (tokenRevocationService.isRevoked(jwt)) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        final String userEmail;
+        final VerifiedToken verifiedToken;
         try {
-             userEmail = jwtService.extractUsername(jwt);
+             verifiedToken = jwtService.verify(jwt);
         } catch (Exception e) {
              filterChain.doFilter(request, response);
              return;
         }
 
+        final String userEmail = verifiedToken.subject();
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            if (jwtService.isTokenCurrent(verifiedToken)) {
+                UserDetails userDetails = toPrincipal(verifiedToken);
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -82,4 +83,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     }
 
+    private UserDetails toPrincipal(VerifiedToken token) {
+        List<?> roles = token.claim(JwtSecurity.ROLES_CLAIM, List.class);
+        List<SimpleGrantedAuthority> authorities = roles == null ? List.of() : roles.stream()
+                .map(role -> new SimpleGrantedAuthority(String.valueOf(role)))
+                .toList();
+        return User.withUsername(token.subject())
+                .password("")
+                .authorities(authorities)
+                .build();
+    }
+
 }
@@ -1,82 +1,126 @@
 package com.arslanca.dev.core.utilities.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
 
 @Service
+@RequiredArgsConstructor
 public class JwtSecurity {
 
+    public static final String ROLES_CLAIM = "roles";
+    public static final String VERSION_CLAIM = "ver";
+    private static final int VERIFIED_CACHE_SIZE = 256;
+
+    private final TokenVersionService tokenVersionService;
+
     @Value("${app.jwt.secret}")
     private String secretKey;
 
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
-    }
+    private Key signInKey;
+    private JwtParser parser;
+    private final VerifiedTokenCache verifiedTokens = new VerifiedTokenCache(VERIFIED_CACHE_SIZE);
 
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    @PostConstruct
+    public void init() {
+        signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * Parses and verifies the token once. Throws a {@link io.jsonwebtoken.JwtException}
+     * when the signature is wrong or the token has expired.
+     */
+    public VerifiedToken verify(String token) {
+        VerifiedToken cached = verifiedTokens.get(token);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        VerifiedToken verified = toVerifiedToken(claims);
+        verifiedTokens.put(token, verified);
+        return verified;
     }
+
     public String generateToken(UserDetails userDetails) {
         return generateToken(new HashMap<>(), userDetails);
     }
 
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
-        return buildToken(extraClaims, userDetails, 1000L * 60 * 15);
+        Map<String, Object> claims = new HashMap<>(extraClaims);
+        claims.put(ROLES_CLAIM, userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+        claims.put(VERSION_CLAIM, tokenVersionService.currentVersion(userDetails.getUsername()));
+        return buildToken(claims, userDetails, 1000L * 60 * 15);
     }
 
     public String generateRefreshToken(UserDetails userDetails) {
-        return buildToken(new HashMap<>(), userDetails, 1000L * 60 * 60 * 24 * 15);
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(VERSION_CLAIM, tokenVersionService.currentVersion(userDetails.getUsername()));
+        return buildToken(claims, userDetails, 1000L * 60 * 60 * 24 * 15);
     }
 
     private String buildToken(Map<String, Object> extraClaims, UserDetails userDetails, long expiration) {
-        return Jwts
+        // JWT dates are whole seconds, keep the cached copy identical to what a parse would return
+        Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        Instant expiresAt = issuedAt.plusMillis(expiration);
+        String token = Jwts
                 .builder()
                 .setClaims(extraClaims)
                 .setSubject(userDetails.getUsername())
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS512)
+                .setIssuedAt(Date.from(issuedAt))
+                .setExpiration(Date.from(expiresAt))
+                .signWith(signInKey, SignatureAlgorithm.HS512)
                 .compact();
+        verifiedTokens.put(token, new VerifiedToken(userDetails.getUsername(), issuedAt, expiresAt, extraClaims));
+        return token;
     }
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+    public boolean isTokenValid(VerifiedToken token, UserDetails userDetails) {
+        return token.subject() != null
+                && token.subject().equals(userDetails.getUsername())
+                && isTokenCurrent(token);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * Checks expiry and the token version claim only, so callers that rebuild the principal
+     * from claims don't need to load the user.
+     */
+    public boolean isTokenCurrent(VerifiedToken token) {
+        return token.subject() != null
+                && !token.isExpired(Instant.now())
+                && tokenVersionService.isCurrent(token.subject(), token.claim(VERSION_CLAIM, Integer.class));
     }
 
-    public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        Map<String, Object> extraClaims = new HashMap<>(claims);
+        extraClaims.remove(Claims.SUBJECT);
+        extraClaims.remove(Claims.ISSUED_AT);
+        extraClaims.remove(Claims.EXPIRATION);
+        return new VerifiedToken(
+                claims.getSubject(),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null,
+                extraClaims
+        );
     }
-
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
 }
@@ -0,0 +1,37 @@
+package com.arslanca.dev.core.utilities.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public final class TokenFingerprints {
+
+    private TokenFingerprints() {
+    }
+
+    public static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public static String hex(String token) {
+        return HexFormat.of().formatHex(sha256(token));
+    }
+
+    /** First 8 bytes of the digest, enough to tell tokens apart in memory. */
+    public static long shortFingerprint(String token) {
+        return shortFingerprint(sha256(token));
+    }
+
+    public static long shortFingerprint(byte[] digest) {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | (digest[i] & 0xFF);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,124 @@
+package com.arslanca.dev.core.utilities.security;
+
+import com.arslanca.dev.dataAccess.RevokedTokenRepository;
+import com.arslanca.dev.entities.RevokedToken;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps revoked access tokens in memory as 64-bit fingerprints mapped to their expiry, so the
+ * JWT filter never touches the database for a token that was not revoked. A fingerprint hit is
+ * confirmed against {@link RevokedTokenRepository} because two tokens may share a fingerprint.
+ * Other instances pick up revocations on the next {@link #refresh()} pass, which reads every row
+ * created since the previous pass started minus an overlap. Ids are no watermark: rows from
+ * different nodes commit out of id order. The overlap covers commit delay and clock skew, and
+ * rows already indexed are skipped. Expired entries are
+ * dropped through an {@link ExpiryWheel} instead of scanning the whole map.
+ */
+@Slf4j
+@Service
+@DependsOn("tokenHashMigration")
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private static final long WHEEL_TICK_SECONDS = 10;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    @Value("${app.security.revocation.max-entries:100000}")
+    private int maxEntries;
+
+    @Value("${app.security.revocation.overlap-ms:60000}")
+    private long overlapMs;
+
+    private final Map<Long, Long> revoked = new ConcurrentHashMap<>();
+    private final ExpiryWheel expiryWheel = new ExpiryWheel(WHEEL_TICK_SECONDS, Instant.now().getEpochSecond());
+    private volatile Instant lastPolledAt;
+    private volatile boolean saturated = false;
+
+    @PostConstruct
+    public void init() {
+        loadAll();
+        log.info("Revocation index loaded with {} entries", revoked.size());
+    }
+
+    public boolean isRevoked(String token) {
+        byte[] tokenHash = TokenFingerprints.sha256(token);
+        if (saturated) {
+            return revokedTokenRepository.existsByTokenHash(tokenHash);
+        }
+        Long expiry = revoked.get(TokenFingerprints.shortFingerprint(tokenHash));
+        if (expiry == null || expiry <= Instant.now().getEpochSecond()) {
+            return false;
+        }
+        return revokedTokenRepository.existsByTokenHash(tokenHash);
+    }
+
+    public void revoke(String token, Instant expiresAt) {
+        byte[] tokenHash = TokenFingerprints.sha256(token);
+        revokedTokenRepository.save(RevokedToken.builder()
+                .tokenHash(tokenHash)
+                .expiryDate(expiresAt)
+                .createdAt(Instant.now())
+                .build());
+        index(tokenHash, expiresAt);
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.revocation.refresh-ms:15000}")
+    public void refresh() {
+        try {
+            long now = Instant.now().getEpochSecond();
+            expiryWheel.advance(now, fingerprint -> revoked.computeIfPresent(fingerprint,
+                    (key, expiry) -> expiry <= now ? null : expiry));
+            if (saturated && revoked.size() < maxEntries) {
+                saturated = false;
+                loadAll();
+            } else {
+                loadRecent();
+            }
+        } catch (Exception e) {
+            log.error("Error while refreshing revocation index", e);
+        }
+    }
+
+    private synchronized void loadAll() {
+        Instant now = Instant.now();
+        revokedTokenRepository.findByExpiryDateAfter(now).forEach(token -> index(token.getTokenHash(), token.getExpiryDate()));
+        lastPolledAt = now;
+    }
+
+    private synchronized void loadRecent() {
+        Instant now = Instant.now();
+        Instant since = (lastPolledAt == null ? now : lastPolledAt).minusMillis(overlapMs);
+        revokedTokenRepository.findByCreatedAtAfterAndExpiryDateAfter(since, now)
+                .forEach(token -> index(token.getTokenHash(), token.getExpiryDate()));
+        lastPolledAt = now;
+    }
+
+    private void index(byte[] tokenHash, Instant expiresAt) {
+        if (revoked.size() >= maxEntries) {
+            if (!saturated) {
+                log.warn("Revocation index is full ({} entries), falling back to database lookups", maxEntries);
+            }
+            saturated = true;
+            return;
+        }
+        long fingerprint = TokenFingerprints.shortFingerprint(tokenHash);
+        Long known = revoked.get(fingerprint);
+        if (known != null && known >= expiresAt.getEpochSecond()) {
+            // seen in an earlier, overlapping pass
+            return;
+        }
+        revoked.merge(fingerprint, expiresAt.getEpochSecond(), Math::max);
+        expiryWheel.schedule(fingerprint, expiresAt.getEpochSecond());
+    }
+}
@@ -0,0 +1,75 @@
+package com.arslanca.dev.core.utilities.security;
+
+import com.arslanca.dev.dataAccess.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches each user's token version so the JWT filter can rebuild the principal from claims
+ * without loading the user. Bumping the version invalidates every token issued before it;
+ * other instances notice once their cached entry is older than the configured TTL.
+ */
+@Service
+@RequiredArgsConstructor
+public class TokenVersionService {
+
+    private static final int UNKNOWN_USER = -1;
+
+    private final UserRepository userRepository;
+
+    @Value("${app.security.token-version.ttl-ms:60000}")
+    private long ttlMs;
+
+    private final Map<String, CachedVersion> versions = new ConcurrentHashMap<>();
+
+    public int currentVersion(String username) {
+        long now = System.currentTimeMillis();
+        CachedVersion cached = versions.get(username);
+        if (cached != null && now - cached.loadedAt() < ttlMs) {
+            return cached.version();
+        }
+        int version = userRepository.findTokenVersionByUsername(username).orElse(UNKNOWN_USER);
+        cache(username, new CachedVersion(version, now));
+        return version;
+    }
+
+    public boolean isCurrent(String username, Integer tokenVersion) {
+        return tokenVersion != null && tokenVersion != UNKNOWN_USER && tokenVersion == currentVersion(username);
+    }
+
+    /**
+     * The new version goes into the cache only once the increment has committed; evicting inside
+     * the transaction would let a concurrent check re-cache the old version for a whole TTL.
+     */
+    @Transactional
+    public void bump(String username) {
+        userRepository.incrementTokenVersion(username);
+        int version = userRepository.findTokenVersionByUsername(username).orElse(UNKNOWN_USER);
+        Runnable publish = () -> cache(username, new CachedVersion(version, System.currentTimeMillis()));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish.run();
+                }
+            });
+        } else {
+            publish.run();
+        }
+    }
+
+    // versions only go up, so a slow load that read the old row can never replace a newer entry
+    private void cache(String username, CachedVersion loaded) {
+        versions.merge(username, loaded, (cached, fresh) -> fresh.version() >= cached.version() ? fresh : cached);
+    }
+
+    private record CachedVersion(int version, long loadedAt) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.arslanca.dev.core.utilities.security;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Result of a single signature check on a JWT. Once a token is parsed the filter and the
+ * auth controller only pass this object around instead of re-parsing the raw string.
+ */
+public record VerifiedToken(String subject, Instant issuedAt, Instant expiresAt, Map<String, Object> claims) {
+
+    public VerifiedToken {
+        claims = Collections.unmodifiableMap(new HashMap<>(claims));
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+
+    public <T> T claim(String name, Class<T> type) {
+        Object value = claims.get(name);
+        return type.isInstance(value) ? type.cast(value) : null;
+    }
+}
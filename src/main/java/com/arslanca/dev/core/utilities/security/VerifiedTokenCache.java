@@ -0,0 +1,44 @@
+package com.arslanca.dev.core.utilities.security;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Small LRU of recently verified tokens keyed by the SHA-256 of the raw token, so repeated
+ * requests from the admin UI skip the HMAC check. Entries are dropped once {@code exp} passes.
+ */
+class VerifiedTokenCache {
+
+    private final int capacity;
+    private final Map<String, VerifiedToken> entries;
+
+    VerifiedTokenCache(int capacity) {
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > VerifiedTokenCache.this.capacity;
+            }
+        };
+    }
+
+    VerifiedToken get(String token) {
+        String key = TokenFingerprints.hex(token);
+        synchronized (entries) {
+            VerifiedToken cached = entries.get(key);
+            if (cached != null && cached.isExpired(Instant.now())) {
+                entries.remove(key);
+                return null;
+            }
+            return cached;
+        }
+    }
+
+    void put(String token, VerifiedToken verified) {
+        String key = TokenFingerprints.hex(token);
+        synchronized (entries) {
+            entries.put(key, verified);
+        }
+    }
+}
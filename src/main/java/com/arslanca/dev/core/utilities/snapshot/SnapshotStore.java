@@ -0,0 +1,71 @@
+package com.arslanca.dev.core.utilities.snapshot;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * Keeps the last good copy of upstream data on local disk as compact JSON so a restart can serve
+ * it before any upstream call has been made. Files are replaced atomically, so a crash during a
+ * save leaves the previous snapshot intact, and read through a memory mapping.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SnapshotStore {
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.snapshot.dir:./data/snapshots}")
+    private String snapshotDir;
+
+    public <T> Optional<T> load(String name, Class<T> type) {
+        return load(name, objectMapper.constructType(type));
+    }
+
+    public <T> Optional<T> load(String name, JavaType type) {
+        Path file = file(name);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            try (InputStream in = new ByteBufferBackedInputStream(buffer)) {
+                return Optional.ofNullable(objectMapper.readValue(in, type));
+            }
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable snapshot {}: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void save(String name, Object value) {
+        Path file = file(name);
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(temp, objectMapper.writeValueAsBytes(value));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not write snapshot {}: {}", file, e.getMessage());
+        }
+    }
+
+    private Path file(String name) {
+        return Path.of(snapshotDir).toAbsolutePath().resolve(name + ".json");
+    }
+}
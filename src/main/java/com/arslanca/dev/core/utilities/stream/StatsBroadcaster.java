@@ -0,0 +1,178 @@
+package com.arslanca.dev.core.utilities.stream;
+
+import com.arslanca.dev.adapters.WakaTimeAdapter;
+import com.arslanca.dev.business.dto.responses.StatsResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Single fan-out point for the live coding status. Subscribers are async servlet responses, so
+ * an idle connection holds no request thread. Every subscriber has its own queue, drained by at
+ * most one virtual thread at a time: events reach a client in the order they were published,
+ * and one slow client cannot hold up the others. A new subscriber gets the full snapshot, after
+ * that only the fields that changed are pushed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatsBroadcaster {
+
+    private static final TypeReference<Map<String, Object>> FIELDS = new TypeReference<>() {};
+    // a client this far behind is not reading; dropping it bounds memory per connection
+    private static final int MAX_PENDING = 64;
+
+    private final WakaTimeAdapter wakaTimeAdapter;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.stats.stream.max-connections:2000}")
+    private int maxConnections;
+
+    @Value("${app.stats.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    private final Map<SseEmitter, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private StatsResponse lastStats;
+    private Map<String, Object> lastFields = Map.of();
+
+    @PostConstruct
+    public void init() {
+        synchronized (this) {
+            lastStats = wakaTimeAdapter.getCurrentStatus();
+            lastFields = toFields(lastStats);
+        }
+        wakaTimeAdapter.addListener(this::onStatsChanged);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.keySet().forEach(SseEmitter::complete);
+        sendExecutor.shutdownNow();
+    }
+
+    /** Returns {@code null} when the connection cap has been reached. */
+    public SseEmitter subscribe() {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            return null;
+        }
+        SseEmitter emitter = createEmitter();
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> unsubscribe(emitter));
+        emitter.onTimeout(() -> unsubscribe(emitter));
+        emitter.onError(error -> unsubscribe(emitter));
+        // under the same lock as publishing, so no delta can fall between snapshot and registration
+        synchronized (this) {
+            subscriber.enqueue(SseEmitter.event().name("snapshot").data(lastStats == null ? Map.of() : lastStats));
+            subscribers.put(emitter, subscriber);
+        }
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats.stream.keep-alive-ms:25000}")
+    public void sendKeepAlive() {
+        for (Subscriber subscriber : subscribers.values()) {
+            subscriber.enqueue(SseEmitter.event().comment("keep-alive"));
+        }
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private synchronized void onStatsChanged(StatsResponse stats) {
+        Map<String, Object> fields = toFields(stats);
+        Map<String, Object> delta = new LinkedHashMap<>();
+        fields.forEach((name, value) -> {
+            if (!Objects.equals(lastFields.get(name), value)) {
+                delta.put(name, value);
+            }
+        });
+        lastStats = stats;
+        lastFields = fields;
+        if (delta.isEmpty()) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers.values()) {
+            subscriber.enqueue(SseEmitter.event().name("delta").data(delta));
+        }
+    }
+
+    private void unsubscribe(SseEmitter emitter) {
+        if (subscribers.remove(emitter) != null) {
+            connections.decrementAndGet();
+        }
+    }
+
+    private Map<String, Object> toFields(StatsResponse stats) {
+        return stats == null ? new HashMap<>() : objectMapper.convertValue(stats, FIELDS);
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (size.incrementAndGet() > MAX_PENDING) {
+                drop(new IllegalStateException("subscriber fell " + MAX_PENDING + " events behind"));
+                return;
+            }
+            pending.add(event);
+            if (draining.compareAndSet(false, true)) {
+                sendExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                SseEmitter.SseEventBuilder event;
+                while ((event = pending.poll()) != null) {
+                    size.decrementAndGet();
+                    try {
+                        emitter.send(event);
+                    } catch (Exception e) {
+                        drop(e);
+                        return;
+                    }
+                }
+                draining.set(false);
+                // an event queued after the last poll but before the flag cleared still needs a drainer
+            } while (!pending.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        private void drop(Exception e) {
+            log.debug("Dropping stats subscriber: {}", e.getMessage());
+            pending.clear();
+            unsubscribe(emitter);
+            emitter.completeWithError(e);
+        }
+    }
+}
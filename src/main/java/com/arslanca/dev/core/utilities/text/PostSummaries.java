@@ -0,0 +1,55 @@
+package com.arslanca.dev.core.utilities.text;
+
+import java.util.regex.Pattern;
+
+/**
+ * Plain-text excerpt and reading time for a Markdown post, computed when the post is written so
+ * list pages never have to load the body.
+ */
+public final class PostSummaries {
+
+    public static final int EXCERPT_LENGTH = 200;
+    private static final int WORDS_PER_MINUTE = 200;
+
+    private static final Pattern CODE_BLOCK = Pattern.compile("```.*?```", Pattern.DOTALL);
+    private static final Pattern IMAGE = Pattern.compile("!\\[[^\\]]*]\\([^)]*\\)");
+    private static final Pattern LINK = Pattern.compile("\\[([^\\]]*)]\\([^)]*\\)");
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]+>");
+    private static final Pattern LINE_MARKUP = Pattern.compile("(?m)^\\s{0,3}(#{1,6}|>|[-*+]|\\d+\\.)\\s+");
+    private static final Pattern INLINE_MARKUP = Pattern.compile("[*_`~]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private PostSummaries() {
+    }
+
+    public static String excerpt(String markdown) {
+        String text = plainText(markdown);
+        if (text.length() <= EXCERPT_LENGTH) {
+            return text;
+        }
+        int cut = text.lastIndexOf(' ', EXCERPT_LENGTH);
+        return text.substring(0, cut > EXCERPT_LENGTH / 2 ? cut : EXCERPT_LENGTH) + "…";
+    }
+
+    public static int readingMinutes(String markdown) {
+        String text = plainText(markdown);
+        if (text.isEmpty()) {
+            return 1;
+        }
+        int words = WHITESPACE.split(text).length;
+        return Math.max(1, (words + WORDS_PER_MINUTE - 1) / WORDS_PER_MINUTE);
+    }
+
+    public static String plainText(String markdown) {
+        if (markdown == null) {
+            return "";
+        }
+        String text = CODE_BLOCK.matcher(markdown).replaceAll(" ");
+        text = IMAGE.matcher(text).replaceAll(" ");
+        text = LINK.matcher(text).replaceAll("$1");
+        text = HTML_TAG.matcher(text).replaceAll(" ");
+        text = LINE_MARKUP.matcher(text).replaceAll("");
+        text = INLINE_MARKUP.matcher(text).replaceAll("");
+        return WHITESPACE.matcher(text).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,27 @@
+package com.arslanca.dev.core.utilities.timeseries;
+
+import java.time.Instant;
+
+/** UTC rollup buckets; weeks start on Monday like ISO weeks. */
+public enum Granularity {
+    HOUR(3600, 0),
+    DAY(86400, 0),
+    // 1970-01-01 was a Thursday, so shift by three days to line buckets up with Mondays
+    WEEK(7 * 86400, 3 * 86400);
+
+    private final long seconds;
+    private final long offset;
+
+    Granularity(long seconds, long offset) {
+        this.seconds = seconds;
+        this.offset = offset;
+    }
+
+    long bucketOf(long epochSecond) {
+        return Math.floorDiv(epochSecond + offset, seconds);
+    }
+
+    Instant startOf(long bucket) {
+        return Instant.ofEpochSecond(bucket * seconds - offset);
+    }
+}
@@ -0,0 +1,217 @@
+package com.arslanca.dev.core.utilities.timeseries;
+
+import com.arslanca.dev.adapters.WakaTimeAdapter;
+import com.arslanca.dev.adapters.models.WakaTimeResponse;
+import com.arslanca.dev.business.dto.responses.StatsHistoryResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps every heartbeat we have seen in a local {@link HeartbeatLog} and maintains hour, day and
+ * week totals per project and per editor, so history queries never touch WakaTime. Time between
+ * two consecutive heartbeats counts towards the earlier one unless the gap exceeds the idle
+ * timeout, which is how WakaTime itself turns heartbeats into durations.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HeartbeatHistory {
+
+    private static final long IDLE_TIMEOUT_MILLIS = 15 * 60 * 1000L;
+    private static final long HOUR_MILLIS = 3600 * 1000L;
+    private static final int MAX_CATCH_UP_DAYS = 7;
+
+    private final WakaTimeAdapter wakaTimeAdapter;
+
+    @Value("${app.stats.history.file:./data/wakatime-heartbeats.log}")
+    private String historyFile;
+
+    // WakaTime's date parameter means a day in the timezone of the WakaTime profile
+    @Value("${app.stats.history.timezone:UTC}")
+    private ZoneId timezone;
+
+    private final HeartbeatLog heartbeatLog = new HeartbeatLog();
+    private final Map<Granularity, Map<HistoryDimension, NavigableMap<Long, long[]>>> rollups = new EnumMap<>(Granularity.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @PostConstruct
+    public void init() {
+        for (Granularity granularity : Granularity.values()) {
+            Map<HistoryDimension, NavigableMap<Long, long[]>> byDimension = new EnumMap<>(HistoryDimension.class);
+            for (HistoryDimension dimension : HistoryDimension.values()) {
+                byDimension.put(dimension, new TreeMap<>());
+            }
+            rollups.put(granularity, byDimension);
+        }
+        try {
+            heartbeatLog.open(Path.of(historyFile), this::accumulate);
+            log.info("Loaded {} WakaTime heartbeats from {}", heartbeatLog.size(), historyFile);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not open heartbeat history " + historyFile, e);
+        }
+        wakaTimeAdapter.addHeartbeatListener(this::ingest);
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        lock.writeLock().lock();
+        try {
+            heartbeatLog.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Appends the heartbeats newer than the last one stored, catching up on missed days first. If
+     * the catch-up fails the new heartbeats are left out too: storing them would move the last
+     * heartbeat past the gap and the missed days would never be fetched. The next poll retries.
+     */
+    public void ingest(List<WakaTimeResponse.Heartbeat> heartbeats) {
+        heartbeats.stream()
+                .filter(heartbeat -> heartbeat.getTime() != null)
+                .findFirst()
+                .ifPresent(first -> {
+                    if (catchUp(toMillis(first))) {
+                        append(heartbeats);
+                    }
+                });
+    }
+
+    public StatsHistoryResponse history(Granularity granularity, HistoryDimension dimension, Instant from, Instant to) {
+        lock.readLock().lock();
+        try {
+            List<StatsHistoryResponse.Bucket> buckets = new ArrayList<>();
+            NavigableMap<Long, long[]> totals = rollups.get(granularity).get(dimension)
+                    .subMap(granularity.bucketOf(from.getEpochSecond()), true, granularity.bucketOf(to.getEpochSecond()), true);
+            totals.forEach((bucket, millis) -> {
+                Map<String, Long> seconds = new LinkedHashMap<>();
+                long total = 0;
+                for (int id = 0; id < millis.length; id++) {
+                    if (millis[id] >= 1000) {
+                        seconds.put(heartbeatLog.name(dimension, id), millis[id] / 1000);
+                        total += millis[id];
+                    }
+                }
+                buckets.add(new StatsHistoryResponse.Bucket(granularity.startOf(bucket), total / 1000, seconds));
+            });
+            return new StatsHistoryResponse(granularity.name().toLowerCase(), dimension.name().toLowerCase(), buckets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // A full outage of more than a refresh leaves a gap the today-only poll cannot see.
+    private boolean catchUp(long firstIncomingMillis) {
+        long lastMillis = lastTimeMillis();
+        if (lastMillis == Long.MIN_VALUE) {
+            return true;
+        }
+        LocalDate day = LocalDate.ofInstant(Instant.ofEpochMilli(lastMillis), timezone);
+        LocalDate firstIncoming = LocalDate.ofInstant(Instant.ofEpochMilli(firstIncomingMillis), timezone);
+        LocalDate oldest = firstIncoming.minusDays(MAX_CATCH_UP_DAYS);
+        if (day.isBefore(oldest)) {
+            day = oldest;
+        }
+        for (; day.isBefore(firstIncoming); day = day.plusDays(1)) {
+            try {
+                WakaTimeResponse response = wakaTimeAdapter.fetchHeartbeats(day);
+                if (response != null && response.getData() != null) {
+                    append(response.getData());
+                }
+            } catch (Exception e) {
+                log.warn("Could not backfill WakaTime heartbeats for {}, holding back newer ones until it succeeds: {}", day, e.getMessage());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void append(List<WakaTimeResponse.Heartbeat> heartbeats) {
+        lock.writeLock().lock();
+        try {
+            for (WakaTimeResponse.Heartbeat heartbeat : heartbeats) {
+                if (heartbeat.getTime() == null) {
+                    continue;
+                }
+                int index = heartbeatLog.append(toMillis(heartbeat), nameOrUnknown(heartbeat.getProject()), nameOrUnknown(heartbeat.getEditor()));
+                if (index >= 0) {
+                    accumulate(index);
+                }
+            }
+            heartbeatLog.flush();
+        } catch (IOException e) {
+            log.error("Could not append WakaTime heartbeats to {}", historyFile, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private long lastTimeMillis() {
+        lock.readLock().lock();
+        try {
+            return heartbeatLog.lastTimeMillis();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void accumulate(int index) {
+        if (index == 0) {
+            return;
+        }
+        long start = heartbeatLog.timeMillis(index - 1);
+        long end = heartbeatLog.timeMillis(index);
+        if (end - start > IDLE_TIMEOUT_MILLIS) {
+            return;
+        }
+        // split at hour boundaries; day and week boundaries are hour boundaries too
+        while (start < end) {
+            long pieceEnd = Math.min(end, Math.floorDiv(start, HOUR_MILLIS) * HOUR_MILLIS + HOUR_MILLIS);
+            for (Granularity granularity : Granularity.values()) {
+                long bucket = granularity.bucketOf(Math.floorDiv(start, 1000));
+                for (HistoryDimension dimension : HistoryDimension.values()) {
+                    add(rollups.get(granularity).get(dimension), bucket, heartbeatLog.id(dimension, index - 1), pieceEnd - start);
+                }
+            }
+            start = pieceEnd;
+        }
+    }
+
+    private static void add(NavigableMap<Long, long[]> totals, long bucket, int id, long millis) {
+        long[] perId = totals.get(bucket);
+        if (perId == null || perId.length <= id) {
+            perId = perId == null ? new long[Math.max(8, id + 1)] : Arrays.copyOf(perId, Math.max(perId.length * 2, id + 1));
+            totals.put(bucket, perId);
+        }
+        perId[id] += millis;
+    }
+
+    private static long toMillis(WakaTimeResponse.Heartbeat heartbeat) {
+        return (long) (heartbeat.getTime() * 1000);
+    }
+
+    private static String nameOrUnknown(String name) {
+        return name == null || name.isBlank() ? "Unknown" : name;
+    }
+}
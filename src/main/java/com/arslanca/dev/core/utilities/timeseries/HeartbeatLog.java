@@ -0,0 +1,207 @@
+package com.arslanca.dev.core.utilities.timeseries;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columnar heartbeat store: one primitive array per column and interned project/editor names,
+ * mirrored to an append-only file. A record is either a dictionary entry or a heartbeat, so the
+ * file replays into exactly the same ids. A torn record at the tail (crash mid-write) is cut off
+ * on the next open.
+ */
+class HeartbeatLog implements Closeable {
+
+    private static final byte NAME_RECORD = 'N';
+    private static final byte HEARTBEAT_RECORD = 'H';
+
+    private final Dictionary projects = new Dictionary(HistoryDimension.PROJECT);
+    private final Dictionary editors = new Dictionary(HistoryDimension.EDITOR);
+    private long[] times = new long[1024];
+    private int[] projectIds = new int[1024];
+    private int[] editorIds = new int[1024];
+    private int size;
+    private DataOutputStream out;
+
+    /** Replays {@code file} (if present) into memory, calling {@code replayed} for every heartbeat in order. */
+    void open(Path file, HeartbeatConsumer replayed) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        long validLength = 0;
+        if (Files.exists(file)) {
+            validLength = replay(file, replayed);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                if (channel.size() > validLength) {
+                    channel.truncate(validLength);
+                }
+            }
+        }
+        out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)));
+    }
+
+    int size() {
+        return size;
+    }
+
+    long lastTimeMillis() {
+        return size == 0 ? Long.MIN_VALUE : times[size - 1];
+    }
+
+    String name(HistoryDimension dimension, int id) {
+        return dictionary(dimension).names.get(id);
+    }
+
+    /** Appends a heartbeat and returns its index, or -1 if it is not newer than the last one. */
+    int append(long timeMillis, String project, String editor) throws IOException {
+        if (timeMillis <= lastTimeMillis()) {
+            return -1;
+        }
+        int projectId = intern(projects, project);
+        int editorId = intern(editors, editor);
+        out.writeByte(HEARTBEAT_RECORD);
+        out.writeLong(timeMillis);
+        out.writeInt(projectId);
+        out.writeInt(editorId);
+        return add(timeMillis, projectId, editorId);
+    }
+
+    long timeMillis(int index) {
+        return times[index];
+    }
+
+    int id(HistoryDimension dimension, int index) {
+        return dimension == HistoryDimension.PROJECT ? projectIds[index] : editorIds[index];
+    }
+
+    void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (out != null) {
+            out.close();
+        }
+    }
+
+    private int intern(Dictionary dictionary, String name) throws IOException {
+        Integer id = dictionary.ids.get(name);
+        if (id != null) {
+            return id;
+        }
+        out.writeByte(NAME_RECORD);
+        out.writeByte(dictionary.dimension.ordinal());
+        out.writeUTF(name);
+        return dictionary.add(name);
+    }
+
+    private int add(long timeMillis, int projectId, int editorId) {
+        if (size == times.length) {
+            times = Arrays.copyOf(times, size * 2);
+            projectIds = Arrays.copyOf(projectIds, size * 2);
+            editorIds = Arrays.copyOf(editorIds, size * 2);
+        }
+        times[size] = timeMillis;
+        projectIds[size] = projectId;
+        editorIds[size] = editorId;
+        return size++;
+    }
+
+    private long replay(Path file, HeartbeatConsumer replayed) throws IOException {
+        long validLength = 0;
+        try (CountingInputStream counting = new CountingInputStream(new BufferedInputStream(Files.newInputStream(file)));
+             DataInputStream in = new DataInputStream(counting)) {
+            while (true) {
+                int type = in.read();
+                if (type < 0) {
+                    break;
+                }
+                if (type == NAME_RECORD) {
+                    dictionary(HistoryDimension.values()[in.readByte()]).add(in.readUTF());
+                } else if (type == HEARTBEAT_RECORD) {
+                    int index = add(in.readLong(), in.readInt(), in.readInt());
+                    replayed.accept(index);
+                } else {
+                    break;
+                }
+                validLength = counting.count;
+            }
+        } catch (EOFException e) {
+            // torn tail record, everything up to validLength is intact
+        }
+        return validLength;
+    }
+
+    private Dictionary dictionary(HistoryDimension dimension) {
+        return dimension == HistoryDimension.PROJECT ? projects : editors;
+    }
+
+    @FunctionalInterface
+    interface HeartbeatConsumer {
+        void accept(int index);
+    }
+
+    private static final class Dictionary {
+        private final HistoryDimension dimension;
+        private final List<String> names = new ArrayList<>();
+        private final Map<String, Integer> ids = new HashMap<>();
+
+        Dictionary(HistoryDimension dimension) {
+            this.dimension = dimension;
+        }
+
+        int add(String name) {
+            ids.put(name, names.size());
+            names.add(name);
+            return names.size() - 1;
+        }
+    }
+
+    private static final class CountingInputStream extends InputStream {
+        private final InputStream delegate;
+        private long count;
+
+        CountingInputStream(InputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = delegate.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.arslanca.dev.core.utilities.timeseries;
+
+public enum HistoryDimension {
+    PROJECT,
+    EDITOR
+}
@@ -0,0 +1,123 @@
+package com.arslanca.dev.core.utilities.warmup;
+
+import com.arslanca.dev.adapters.GithubAdapter;
+import com.arslanca.dev.adapters.WakaTimeAdapter;
+import com.arslanca.dev.business.abstracts.BlogSearchService;
+import com.arslanca.dev.business.abstracts.SuggestionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Primes upstream snapshots and the in-memory search indexes concurrently once the application
+ * has started, all within one time budget. Database-backed reads are not warmed: nothing caches
+ * them, so running them early would prime nothing. Exposed as the {@code warmup} health
+ * indicator, which is part of the readiness group, so the instance only takes traffic once the
+ * critical tasks have finished or the budget has run out.
+ */
+@Slf4j
+@Component("warmup")
+@RequiredArgsConstructor
+public class StartupWarmup implements HealthIndicator {
+
+    private static final long RETRY_DELAY_MS = 1000;
+
+    private final GithubAdapter githubAdapter;
+    private final WakaTimeAdapter wakaTimeAdapter;
+    private final BlogSearchService blogSearchService;
+    private final SuggestionService suggestionService;
+
+    @Value("${app.warmup.budget-ms:20000}")
+    private long budgetMs;
+
+    private final Map<String, String> states = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread.ofVirtual().name("startup-warmup").start(this::warmUp);
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = ready ? Health.up() : Health.outOfService();
+        return builder.withDetails(new LinkedHashMap<>(states)).build();
+    }
+
+    void warmUp() {
+        List<Task> tasks = List.of(
+                new Task("github", true, githubAdapter::getRepos, githubAdapter::isPrimed),
+                new Task("stats", true, () -> {
+                    if (!wakaTimeAdapter.isPrimed()) {
+                        wakaTimeAdapter.refreshWakaTimeStats();
+                    }
+                }, wakaTimeAdapter::isPrimed),
+                new Task("blogSearch", false, blogSearchService::rebuild, null),
+                new Task("suggest", false, suggestionService::rebuild, null));
+
+        long start = System.nanoTime();
+        List<Callable<Void>> calls = new ArrayList<>();
+        for (Task task : tasks) {
+            states.put(task.name(), "pending");
+            calls.add(() -> {
+                run(task);
+                return null;
+            });
+        }
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // tasks still running when the budget expires are cancelled
+            executor.invokeAll(calls, budgetMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        tasks.forEach(task -> states.computeIfPresent(task.name(), (name, state) -> state.equals("pending") ? "timed_out" : state));
+        ready = true;
+
+        boolean criticalPrimed = tasks.stream().filter(Task::critical).allMatch(task -> "done".equals(states.get(task.name())));
+        log.info("Warm-up finished in {} ms ({}): {}", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                criticalPrimed ? "critical caches primed" : "budget exhausted or upstream failed", states);
+    }
+
+    // Critical tasks keep retrying until they are primed; the budget timeout interrupts them.
+    private void run(Task task) {
+        try {
+            while (true) {
+                try {
+                    task.action().run();
+                } catch (Exception e) {
+                    log.debug("Warm-up of {} failed: {}", task.name(), e.getMessage());
+                    if (!task.critical()) {
+                        states.put(task.name(), "failed");
+                        return;
+                    }
+                }
+                if (!task.critical() || task.primed().getAsBoolean()) {
+                    states.put(task.name(), "done");
+                    return;
+                }
+                Thread.sleep(RETRY_DELAY_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Task(String name, boolean critical, Runnable action, BooleanSupplier primed) {
+    }
+}
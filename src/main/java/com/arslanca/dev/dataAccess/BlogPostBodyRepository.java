@@ -0,0 +1,20 @@
+package com.arslanca.dev.dataAccess;
+
+import com.arslanca.dev.entities.BlogPostBody;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+// One column per query, so a view reads only the encoding it sends.
+public interface BlogPostBodyRepository extends JpaRepository<BlogPostBody, Integer> {
+
+    @Query("select b.json from BlogPostBody b where b.postId = :postId")
+    Optional<byte[]> findJson(int postId);
+
+    @Query("select b.jsonGzip from BlogPostBody b where b.postId = :postId")
+    Optional<byte[]> findJsonGzip(int postId);
+
+    @Query("select b.jsonBrotli from BlogPostBody b where b.postId = :postId")
+    Optional<byte[]> findJsonBrotli(int postId);
+}
@@ -1,8 +1,42 @@
 package com.arslanca.dev.dataAccess;
 
+import com.arslanca.dev.business.dto.responses.GetBlogSummaryResponse;
+import com.arslanca.dev.core.utilities.http.ContentState;
 import com.arslanca.dev.entities.BlogPost;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.util.List;
 
 public interface BlogRepository extends JpaRepository<BlogPost, Integer> {
     boolean existsByTitle(String title);
+
+    @Query(value = "select new com.arslanca.dev.business.dto.responses.GetBlogSummaryResponse(b.id, b.title, b.category, b.createdDate, b.excerpt, b.readingMinutes) from BlogPost b",
+            countQuery = "select count(b) from BlogPost b")
+    Page<GetBlogSummaryResponse> findSummaries(Pageable pageable);
+
+    @Query("select new com.arslanca.dev.business.dto.responses.GetBlogSummaryResponse(b.id, b.title, b.category, b.createdDate, b.excerpt, b.readingMinutes) from BlogPost b")
+    List<GetBlogSummaryResponse> findAllSummaries();
+
+    // Keyset slices: the row-value comparison is answered by a seek on idx_blog_posts_created_date_id.
+    @Query("select new com.arslanca.dev.business.dto.responses.GetBlogSummaryResponse(b.id, b.title, b.category, b.createdDate, b.excerpt, b.readingMinutes) from BlogPost b order by b.createdDate desc, b.id desc")
+    List<GetBlogSummaryResponse> findFirstSummaries(Pageable pageable);
+
+    @Query("select new com.arslanca.dev.business.dto.responses.GetBlogSummaryResponse(b.id, b.title, b.category, b.createdDate, b.excerpt, b.readingMinutes) from BlogPost b " +
+            "where (b.createdDate, b.id) < (:createdDate, :id) order by b.createdDate desc, b.id desc")
+    List<GetBlogSummaryResponse> findSummariesBefore(LocalDate createdDate, int id, Pageable pageable);
+
+    @Query("select b from BlogPost b where b.excerpt is null or b.contentHtml is null " +
+            "or not exists (select x.postId from BlogPostBody x where x.postId = b.id and x.format >= :format)")
+    List<BlogPost> findNeedingBackfill(int format);
+
+    @Query("select new com.arslanca.dev.dataAccess.BlogSearchRow(b.id, b.title, b.category, b.createdDate, b.content) from BlogPost b " +
+            "where b.id > :id order by b.id")
+    List<BlogSearchRow> findSearchRowsAfter(int id, Pageable pageable);
+
+    @Query("select new com.arslanca.dev.core.utilities.http.ContentState(count(b), max(b.updatedAt)) from BlogPost b")
+    ContentState findContentState();
 }
@@ -0,0 +1,7 @@
+package com.arslanca.dev.dataAccess;
+
+import java.time.LocalDate;
+
+/** The columns of a blog post the search index is built from; leaves out the rendered HTML. */
+public record BlogSearchRow(int id, String title, String category, LocalDate createdDate, String content) {
+}
@@ -1,8 +1,13 @@
 package com.arslanca.dev.dataAccess;
 
+import com.arslanca.dev.core.utilities.http.ContentState;
 import com.arslanca.dev.entities.PinnedProject;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface PinnedProjectRepository extends JpaRepository<PinnedProject, Long> {
     boolean existsByTitle(String title);
+
+    @Query("select new com.arslanca.dev.core.utilities.http.ContentState(count(p), max(p.updatedAt)) from PinnedProject p")
+    ContentState findContentState();
 }
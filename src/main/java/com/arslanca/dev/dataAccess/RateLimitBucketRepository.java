@@ -0,0 +1,19 @@
+package com.arslanca.dev.dataAccess;
+
+import com.arslanca.dev.entities.RateLimitBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+public interface RateLimitBucketRepository extends JpaRepository<RateLimitBucket, Long> {
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM rate_limit_buckets WHERE id IN " +
+            "(SELECT id FROM rate_limit_buckets WHERE updated_at < :date LIMIT :limit)", nativeQuery = true)
+    int deleteStaleBatch(@Param("date") Instant date, @Param("limit") int limit);
+}
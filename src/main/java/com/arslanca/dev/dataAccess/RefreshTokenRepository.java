@@ -6,25 +6,29 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Integer> {
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
     void deleteByUser(User user);
 
     List<RefreshToken> findByUserAndRevoked(User user, boolean revoked);
 
+    @Transactional
     @Modifying
-    @Query("DELETE FROM RefreshToken r WHERE r.expiryDate < :date")
-    int deleteByExpiryDateBefore(@Param("date") Instant date);
+    @Query(value = "DELETE FROM refresh_token WHERE id IN " +
+            "(SELECT id FROM refresh_token WHERE expiry_date < :date LIMIT :limit)", nativeQuery = true)
+    int deleteExpiredBatch(@Param("date") Instant date, @Param("limit") int limit);
 
+    @Transactional
     @Modifying
-    @Query("DELETE FROM RefreshToken r WHERE r.revoked = :revoked AND r.expiryDate < :date")
-
-    int deleteByRevokedAndExpiryDateBefore(@Param("revoked") boolean revoked, @Param("date") Instant date);
+    @Query(value = "DELETE FROM refresh_token WHERE id IN " +
+            "(SELECT id FROM refresh_token WHERE revoked = :revoked AND expiry_date < :date LIMIT :limit)", nativeQuery = true)
+    int deleteRevokedExpiredBatch(@Param("revoked") boolean revoked, @Param("date") Instant date, @Param("limit") int limit);
 
     List<RefreshToken> findByUserAndRevokedOrderByExpiryDateDesc(User user, boolean revoked);
 }
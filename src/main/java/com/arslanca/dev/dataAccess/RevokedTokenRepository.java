@@ -5,13 +5,19 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
-import java.util.Optional;
+import java.util.List;
 
 public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Integer> {
-    Optional<RevokedToken> findByToken(String token);
+    boolean existsByTokenHash(byte[] tokenHash);
+    List<RevokedToken> findByExpiryDateAfter(Instant date);
+    List<RevokedToken> findByCreatedAtAfterAndExpiryDateAfter(Instant createdAt, Instant date);
+
+    @Transactional
     @Modifying
-    @Query("DELETE FROM RevokedToken r WHERE r.expiryDate < :date")
-    int deleteByExpiryDateBefore(@Param("date") Instant date);
+    @Query(value = "DELETE FROM revoked_token WHERE id IN " +
+            "(SELECT id FROM revoked_token WHERE expiry_date < :date LIMIT :limit)", nativeQuery = true)
+    int deleteExpiredBatch(@Param("date") Instant date, @Param("limit") int limit);
 }
@@ -1,8 +1,13 @@
 package com.arslanca.dev.dataAccess;
 
+import com.arslanca.dev.core.utilities.http.ContentState;
 import com.arslanca.dev.entities.TechStack;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface TechStackRepository extends JpaRepository<TechStack, Integer> {
     boolean existsByName(String name);
+
+    @Query("select new com.arslanca.dev.core.utilities.http.ContentState(count(t), max(t.updatedAt)) from TechStack t")
+    ContentState findContentState();
 }
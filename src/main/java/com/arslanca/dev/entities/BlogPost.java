@@ -5,11 +5,12 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.time.LocalDate;
 
 @Entity
 @Data
-@Table(name = "blog_posts")
+@Table(name = "blog_posts", indexes = @Index(name = "idx_blog_posts_created_date_id", columnList = "created_date DESC, id DESC"))
 @AllArgsConstructor
 @NoArgsConstructor
 public class BlogPost {
@@ -25,6 +26,10 @@ public class BlogPost {
     @Column(name = "content", columnDefinition = "TEXT")
     private String content;
 
+    // sanitised HTML rendered from content on every write
+    @Column(name = "content_html", columnDefinition = "TEXT")
+    private String contentHtml;
+
     @Column(name = "created_date")
     private LocalDate createdDate = LocalDate.now();
 
@@ -33,6 +38,16 @@ public class BlogPost {
 
     @Column(name = "category")
     private String category;
-    
+
+    // derived from content on every write so the list query can skip the TEXT column
+    @Column(name = "excerpt", length = 300)
+    private String excerpt;
+
+    @Column(name = "reading_minutes")
+    private Integer readingMinutes;
+
+    // set on every write; newest value per table drives Last-Modified
+    @Column(name = "updated_at")
+    private Instant updatedAt;
 
 }
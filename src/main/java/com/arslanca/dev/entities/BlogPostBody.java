@@ -0,0 +1,33 @@
+package com.arslanca.dev.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// The single-post response, serialised and compressed when the post is written. Kept out of
+// blog_posts so listing and editing never load it.
+@Entity
+@Data
+@Table(name = "blog_post_bodies")
+@AllArgsConstructor
+@NoArgsConstructor
+public class BlogPostBody {
+
+    @Id
+    @Column(name = "post_id")
+    private int postId;
+
+    @Column(name = "json", nullable = false)
+    private byte[] json;
+
+    @Column(name = "json_gzip")
+    private byte[] jsonGzip;
+
+    @Column(name = "json_brotli")
+    private byte[] jsonBrotli;
+
+    // layout of the stored response; rows older than BlogManager.BODY_FORMAT are rebuilt at startup
+    @Column(name = "format")
+    private Integer format;
+}
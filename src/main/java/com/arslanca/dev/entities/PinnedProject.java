@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+
+import java.time.Instant;
 import java.util.List;
 
 @Entity
@@ -31,4 +33,8 @@ public class PinnedProject {
     private List<String> tags;
 
     private String githubUrl;
+
+    // set on every write; newest value per table drives Last-Modified
+    @Column(name = "updated_at")
+    private Instant updatedAt;
 }
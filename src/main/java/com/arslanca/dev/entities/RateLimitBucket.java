@@ -0,0 +1,24 @@
+package com.arslanca.dev.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "rate_limit_buckets", indexes = @Index(name = "idx_rate_limit_buckets_updated_at", columnList = "updatedAt"))
+public class RateLimitBucket {
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private byte[] state;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+}
@@ -13,14 +13,21 @@ import java.time.Instant;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_revoked_token_expiry_date", columnList = "expiryDate"),
+        @Index(name = "idx_revoked_token_created_at", columnList = "createdAt")
+})
 public class RevokedToken {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
 
-    @Column(unique = true, nullable = false)
-    private String token;
+    @Column(name = "token_hash", nullable = false, unique = true, length = 32)
+    private byte[] tokenHash;
 
     @Column(nullable = false)
     private Instant expiryDate;
+
+    // polled with an overlap by the other instances, see TokenRevocationService
+    private Instant createdAt;
 }
@@ -6,6 +6,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
+
 @Entity
 @Data
 @Table(name = "tech_stacks")
@@ -21,4 +23,8 @@ public class TechStack {
 
     @Enumerated(EnumType.STRING)
     private StackLevel type;
+
+    // set on every write; newest value per table drives Last-Modified
+    @Column(name = "updated_at")
+    private Instant updatedAt;
 }
@@ -29,6 +29,10 @@ public class User implements UserDetails {
 
     private String password;
 
+    @Builder.Default
+    @Column(name = "token_version", columnDefinition = "integer default 0")
+    private Integer tokenVersion = 0;
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority("ADMIN"));
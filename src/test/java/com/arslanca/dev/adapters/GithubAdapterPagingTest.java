@@ -0,0 +1,124 @@
+package com.arslanca.dev.adapters;
+
+import com.arslanca.dev.business.dto.responses.GithubRepoResponse;
+import com.arslanca.dev.core.utilities.http.OutboundClientFactory;
+import com.arslanca.dev.core.utilities.security.GithubWebhookVerifier;
+import com.arslanca.dev.core.utilities.snapshot.SnapshotStore;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GithubAdapterPagingTest {
+
+    private static final Pattern PAGE = Pattern.compile("[?&]page=(\\d+)");
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final Map<Integer, String> pages = new ConcurrentHashMap<>();
+    private final AtomicInteger notModified = new AtomicInteger();
+    private GithubAdapter githubAdapter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        pages.put(1, "[{\"name\":\"portfolio\"},{\"name\":\"weather-cli\"}]");
+        pages.put(2, "[{\"name\":\"dotfiles\"},{\"name\":\"notes\"}]");
+        pages.put(3, "[{\"name\":\"old-blog\"},{\"name\":\"kata\"}]");
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/users/arslanca/repos", this::respond);
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        OutboundClientFactory outboundClientFactory = Mockito.mock(OutboundClientFactory.class);
+        Mockito.when(outboundClientFactory.builder("github"))
+                .thenReturn(RestClient.builder().baseUrl("http://127.0.0.1:" + server.getAddress().getPort()));
+        SnapshotStore snapshotStore = Mockito.mock(SnapshotStore.class);
+        Mockito.when(snapshotStore.load("github-repos", GithubAdapter.Snapshot.class)).thenReturn(Optional.empty());
+
+        githubAdapter = new GithubAdapter(outboundClientFactory, snapshotStore, new GithubWebhookVerifier(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(githubAdapter, "githubUsername", "arslanca");
+        ReflectionTestUtils.setField(githubAdapter, "maxParallelPages", 2);
+        ReflectionTestUtils.setField(githubAdapter, "staleAfterMs", 900_000L);
+        ReflectionTestUtils.setField(githubAdapter, "reconcileMs", 21_600_000L);
+        githubAdapter.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void getRepos_shouldFetchEveryPage_fromLinkHeader() {
+        assertEquals(List.of("portfolio", "weather-cli", "dotfiles", "notes", "old-blog", "kata"), names(githubAdapter.getRepos()));
+    }
+
+    @Test
+    void refresh_shouldPickUpDeletionOnLaterPage_whenFirstPageIsNotModified() {
+        githubAdapter.getRepos();
+        pages.put(3, "[{\"name\":\"kata\"}]");
+
+        githubAdapter.scheduledRefresh();
+
+        assertEquals(List.of("portfolio", "weather-cli", "dotfiles", "notes", "kata"), names(githubAdapter.getRepos()));
+        assertEquals(2, notModified.get());
+    }
+
+    @Test
+    void refresh_shouldKeepSameList_whenEveryPageIsNotModified() {
+        List<GithubRepoResponse> before = githubAdapter.getRepos();
+
+        githubAdapter.scheduledRefresh();
+
+        assertSame(before, githubAdapter.getRepos());
+        assertEquals(3, notModified.get());
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        Matcher matcher = PAGE.matcher(exchange.getRequestURI().getQuery());
+        int page = matcher.find() ? Integer.parseInt(matcher.group(1)) : 1;
+        String body = pages.getOrDefault(page, "[]");
+        String etag = "\"p" + page + "-" + Integer.toHexString(body.hashCode()) + "\"";
+        exchange.getResponseHeaders().add("ETag", etag);
+        exchange.getResponseHeaders().add("Link", "<http://127.0.0.1/users/arslanca/repos?per_page=100&page=" + pages.size() + ">; rel=\"last\"");
+        if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            notModified.incrementAndGet();
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static List<String> names(List<GithubRepoResponse> repos) {
+        return repos.stream().map(GithubRepoResponse::getName).toList();
+    }
+}
@@ -0,0 +1,135 @@
+package com.arslanca.dev.adapters;
+
+import com.arslanca.dev.api.controllers.GithubWebhookController;
+import com.arslanca.dev.business.dto.responses.GithubRepoResponse;
+import com.arslanca.dev.core.utilities.http.OutboundClientFactory;
+import com.arslanca.dev.core.utilities.security.GithubWebhookVerifier;
+import com.arslanca.dev.core.utilities.snapshot.SnapshotStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class GithubAdapterTest {
+
+    private GithubAdapter githubAdapter;
+    private GithubWebhookVerifier githubWebhookVerifier;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        OutboundClientFactory outboundClientFactory = Mockito.mock(OutboundClientFactory.class);
+        Mockito.when(outboundClientFactory.builder("github")).thenReturn(RestClient.builder());
+        SnapshotStore snapshotStore = Mockito.mock(SnapshotStore.class);
+        Mockito.when(snapshotStore.load("github-repos", GithubAdapter.Snapshot.class)).thenReturn(Optional.of(
+                new GithubAdapter.Snapshot(List.of(repo("portfolio", "12"), repo("weather-cli", "6"), repo("dotfiles", "3")),
+                        "\"etag\"", System.currentTimeMillis())));
+
+        githubWebhookVerifier = new GithubWebhookVerifier();
+        ReflectionTestUtils.setField(githubWebhookVerifier, "secret", "webhook-secret");
+        githubAdapter = new GithubAdapter(outboundClientFactory, snapshotStore, githubWebhookVerifier, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(githubAdapter, "githubUsername", "arslanca");
+        githubAdapter.init();
+
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                new GithubWebhookController(githubAdapter, githubWebhookVerifier, new ObjectMapper())).build();
+    }
+
+    @Test
+    void webhook_shouldMoveRepoToFrontAndUpdateStars_whenPushIsReceived() throws Exception {
+        deliver("push", "github-push.json", true);
+
+        List<GithubRepoResponse> repos = githubAdapter.getRepos();
+        assertEquals(List.of("weather-cli", "portfolio", "dotfiles"), names(repos));
+        assertEquals("7", repos.get(0).getStars());
+        assertEquals("Go", repos.get(0).getLanguage());
+    }
+
+    @Test
+    void webhook_shouldUpdateDescription_whenRepositoryIsEdited() throws Exception {
+        deliver("repository", "github-repository-edited.json", true);
+
+        assertEquals("Personal site and blog", githubAdapter.getRepos().get(0).getDescription());
+    }
+
+    @Test
+    void webhook_shouldReplaceOldName_whenRepositoryIsRenamed() throws Exception {
+        deliver("repository", "github-repository-renamed.json", true);
+
+        assertEquals(List.of("dev-env", "portfolio", "weather-cli"), names(githubAdapter.getRepos()));
+    }
+
+    @Test
+    void webhook_shouldKeepOrder_whenRepoIsStarred() throws Exception {
+        deliver("star", "github-star-created.json", true);
+
+        List<GithubRepoResponse> repos = githubAdapter.getRepos();
+        assertEquals(List.of("portfolio", "weather-cli", "dotfiles"), names(repos));
+        assertEquals("4", repos.get(2).getStars());
+    }
+
+    @Test
+    void webhook_shouldRejectAndIgnorePayload_whenSignatureIsInvalid() throws Exception {
+        mockMvc.perform(post("/api/webhooks/github")
+                        .header("X-GitHub-Event", "push")
+                        .header("X-Hub-Signature-256", "sha256=" + "00".repeat(32))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload("github-push.json")))
+                .andExpect(status().isUnauthorized());
+
+        assertEquals(List.of("portfolio", "weather-cli", "dotfiles"), names(githubAdapter.getRepos()));
+    }
+
+    @Test
+    void webhook_shouldIgnoreEvent_whenRepositoryBelongsToSomeoneElse() throws Exception {
+        ReflectionTestUtils.setField(githubAdapter, "githubUsername", "someone-else");
+
+        deliver("push", "github-push.json", false);
+
+        assertEquals(List.of("portfolio", "weather-cli", "dotfiles"), names(githubAdapter.getRepos()));
+    }
+
+    private void deliver(String event, String file, boolean expectApplied) throws Exception {
+        byte[] body = payload(file);
+        mockMvc.perform(post("/api/webhooks/github")
+                        .header("X-GitHub-Event", event)
+                        .header("X-Hub-Signature-256", "sha256=" + HexFormat.of().formatHex(githubWebhookVerifier.sign(body)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(expectApplied ? status().isAccepted() : status().isNoContent());
+    }
+
+    private byte[] payload(String file) throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/webhooks/" + file)) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static GithubRepoResponse repo(String name, String stars) {
+        GithubRepoResponse repo = new GithubRepoResponse();
+        repo.setName(name);
+        repo.setStars(stars);
+        repo.setUrl("https://github.com/arslanca/" + name);
+        return repo;
+    }
+
+    private static List<String> names(List<GithubRepoResponse> repos) {
+        return repos.stream().map(GithubRepoResponse::getName).toList();
+    }
+}
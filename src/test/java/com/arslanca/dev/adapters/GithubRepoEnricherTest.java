@@ -0,0 +1,113 @@
+package com.arslanca.dev.adapters;
+
+import com.arslanca.dev.business.dto.responses.GithubRepoResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GithubRepoEnricherTest {
+
+    private HttpServer server;
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger notModified = new AtomicInteger();
+    private GithubRepoEnricher githubRepoEnricher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/repos/arslanca/portfolio/languages",
+                exchange -> respond(exchange, "\"lang-v1\"", "{\"Java\":12000,\"HTML\":800}"));
+        server.createContext("/repos/arslanca/portfolio/commits",
+                exchange -> respond(exchange, "\"commits-v1\"", "[{\"commit\":{\"committer\":{\"date\":\"2026-10-17T20:01:00Z\"}}}]"));
+        server.start();
+
+        RestClient restClient = RestClient.builder().baseUrl("http://127.0.0.1:" + server.getAddress().getPort()).build();
+        githubRepoEnricher = new GithubRepoEnricher(restClient, "arslanca", 2, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void enrich_shouldMergeLanguagesAndLastCommit_whenRepoIsNew() throws Exception {
+        List<GithubRepoResponse> repos = List.of(repo("2026-10-17T20:01:05Z"));
+
+        assertTrue(githubRepoEnricher.enrich(repos));
+        List<GithubRepoResponse> merged = githubRepoEnricher.merge(repos);
+
+        assertEquals(Map.of("Java", 12000L, "HTML", 800L), merged.get(0).getLanguages());
+        assertEquals("2026-10-17T20:01:00Z", merged.get(0).getLastCommitAt());
+        assertNull(repos.get(0).getLanguages());
+    }
+
+    @Test
+    void enrich_shouldSkipRepo_whenPushedAtIsUnchanged() throws Exception {
+        githubRepoEnricher.enrich(List.of(repo("2026-10-17T20:01:05Z")));
+        int before = calls.get();
+
+        assertFalse(githubRepoEnricher.enrich(List.of(repo("2026-10-17T20:01:05Z"))));
+        assertEquals(before, calls.get());
+    }
+
+    @Test
+    void enrich_shouldSendETags_whenRepoWasPushedAgain() throws Exception {
+        githubRepoEnricher.enrich(List.of(repo("2026-10-17T20:01:05Z")));
+
+        assertFalse(githubRepoEnricher.enrich(List.of(repo("2026-10-18T08:30:00Z"))));
+        assertEquals(2, notModified.get());
+        assertEquals("2026-10-17T20:01:00Z", githubRepoEnricher.merge(List.of(repo("2026-10-18T08:30:00Z"))).get(0).getLastCommitAt());
+    }
+
+    @Test
+    void merge_shouldForgetRepo_whenItIsNoLongerListed() throws Exception {
+        githubRepoEnricher.enrich(List.of(repo("2026-10-17T20:01:05Z")));
+        int before = calls.get();
+
+        githubRepoEnricher.merge(List.of());
+
+        // fetched from scratch, without the ETags of the forgotten entry
+        assertTrue(githubRepoEnricher.enrich(List.of(repo("2026-10-17T20:01:05Z"))));
+        assertEquals(before + 2, calls.get());
+        assertEquals(0, notModified.get());
+    }
+
+    private void respond(HttpExchange exchange, String etag, String body) throws IOException {
+        calls.incrementAndGet();
+        exchange.getResponseHeaders().add("ETag", etag);
+        if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            notModified.incrementAndGet();
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static GithubRepoResponse repo(String pushedAt) {
+        GithubRepoResponse repo = new GithubRepoResponse();
+        repo.setName("portfolio");
+        repo.setPushedAt(pushedAt);
+        return repo;
+    }
+}
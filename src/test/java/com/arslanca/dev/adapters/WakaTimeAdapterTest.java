@@ -0,0 +1,129 @@
+package com.arslanca.dev.adapters;
+
+import com.arslanca.dev.adapters.models.WakaTimeResponse;
+import com.arslanca.dev.adapters.models.WakaTimeSummariesResponse;
+import com.arslanca.dev.business.dto.responses.StatsResponse;
+import com.arslanca.dev.core.utilities.http.OutboundClientFactory;
+import com.arslanca.dev.core.utilities.snapshot.SnapshotStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WakaTimeAdapterTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(5);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private volatile int generation;
+    private volatile boolean blockFetches;
+
+    private final WakaTimeAdapter wakaTimeAdapter = new WakaTimeAdapter(Mockito.mock(OutboundClientFactory.class), Mockito.mock(SnapshotStore.class)) {
+        @Override
+        WakaTimeResponse fetchHeartbeats() {
+            awaitRelease();
+            WakaTimeResponse.Heartbeat heartbeat = new WakaTimeResponse.Heartbeat();
+            heartbeat.setProject("project-" + generation);
+            heartbeat.setEntity("/src/project-" + generation);
+            heartbeat.setEditor("IntelliJ");
+            heartbeat.setTime(System.currentTimeMillis() / 1000.0);
+            WakaTimeResponse response = new WakaTimeResponse();
+            response.setData(List.of(heartbeat));
+            return response;
+        }
+
+        @Override
+        WakaTimeSummariesResponse fetchSummaries() {
+            awaitRelease();
+            WakaTimeSummariesResponse.ProjectStat project = new WakaTimeSummariesResponse.ProjectStat();
+            project.setName("project-" + generation);
+            project.setText(generation + " mins");
+            WakaTimeSummariesResponse.GrandTotal grandTotal = new WakaTimeSummariesResponse.GrandTotal();
+            grandTotal.setText(generation + " mins");
+            WakaTimeSummariesResponse.SummaryData summary = new WakaTimeSummariesResponse.SummaryData();
+            summary.setGrand_total(grandTotal);
+            summary.setProjects(List.of(project));
+            WakaTimeSummariesResponse response = new WakaTimeSummariesResponse();
+            response.setData(List.of(summary));
+            return response;
+        }
+
+        private void awaitRelease() {
+            if (blockFetches) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+        wakaTimeAdapter.shutdown();
+    }
+
+    @Test
+    void getCurrentStatus_shouldReturnLastSnapshot_whenRefreshIsStuck() throws Exception {
+        wakaTimeAdapter.refreshWakaTimeStats();
+        StatsResponse before = wakaTimeAdapter.getCurrentStatus();
+        blockFetches = true;
+        Future<?> refresh = executor.submit(wakaTimeAdapter::refreshWakaTimeStats);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            for (int i = 0; i < 100_000; i++) {
+                assertSame(before, wakaTimeAdapter.getCurrentStatus());
+            }
+        });
+
+        release.countDown();
+        refresh.get(5, TimeUnit.SECONDS);
+        assertEquals("project-0", wakaTimeAdapter.getCurrentStatus().getProjectName());
+    }
+
+    @Test
+    void getCurrentStatus_shouldNeverSeeTornSnapshot_whenRefreshedConcurrently() throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Future<Integer>> readers = new ArrayList<>();
+        for (int r = 0; r < 4; r++) {
+            readers.add(executor.submit(() -> {
+                int checked = 0;
+                while (running.get()) {
+                    StatsResponse stats = wakaTimeAdapter.getCurrentStatus();
+                    if (stats.getProjectName() != null) {
+                        String suffix = stats.getProjectName().substring("project-".length());
+                        assertEquals(stats.getProjectName(), stats.getCurrentlyEditingFile());
+                        assertEquals(suffix + " mins", stats.getTotalSpentOnCurrentProject());
+                        assertEquals(suffix + " mins", stats.getTotalSpentOnAllProjects());
+                        checked++;
+                    }
+                }
+                return checked;
+            }));
+        }
+
+        for (int i = 1; i <= 500; i++) {
+            generation = i;
+            wakaTimeAdapter.refreshWakaTimeStats();
+        }
+        running.set(false);
+
+        for (Future<Integer> reader : readers) {
+            assertTrue(reader.get(5, TimeUnit.SECONDS) >= 0);
+        }
+        assertEquals("project-500", wakaTimeAdapter.getCurrentStatus().getProjectName());
+    }
+}
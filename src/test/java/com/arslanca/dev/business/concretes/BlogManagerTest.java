@@ -1,13 +1,26 @@
 package com.arslanca.dev.business.concretes;
 
+import com.arslanca.dev.business.abstracts.SuggestionService;
+import com.arslanca.dev.business.abstracts.BlogSearchService;
 import com.arslanca.dev.business.dto.requests.CreateBlogRequest;
 import com.arslanca.dev.business.dto.responses.GetBlogResponse;
+import com.arslanca.dev.business.dto.responses.GetBlogSummaryResponse;
 import com.arslanca.dev.business.mappers.BlogMapper;
+import com.arslanca.dev.core.utilities.exceptions.types.BusinessException;
+import com.arslanca.dev.core.utilities.exceptions.types.NotFoundException;
+import com.arslanca.dev.core.utilities.http.ContentEncodings;
+import com.arslanca.dev.core.utilities.http.ContentVersions;
+import com.arslanca.dev.core.utilities.http.EncodedBody;
+import com.arslanca.dev.dataAccess.BlogPostBodyRepository;
 import com.arslanca.dev.dataAccess.BlogRepository;
 import com.arslanca.dev.entities.BlogPost;
+import com.arslanca.dev.entities.BlogPostBody;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 
@@ -19,38 +32,172 @@ class BlogManagerTest {
 
     private BlogRepository blogRepository;
     private BlogMapper blogMapper;
+    private BlogSearchService blogSearchService;
+    private BlogPostBodyRepository blogPostBodyRepository;
+    private ContentVersions contentVersions;
 
     @BeforeEach
     void setUp() {
         blogRepository = org.mockito.Mockito.mock(BlogRepository.class);
         blogMapper = org.mockito.Mockito.mock(BlogMapper.class);
-        blogManager = new BlogManager(blogRepository, blogMapper);
+        blogSearchService = org.mockito.Mockito.mock(BlogSearchService.class);
+        blogPostBodyRepository = org.mockito.Mockito.mock(BlogPostBodyRepository.class);
+        contentVersions = org.mockito.Mockito.mock(ContentVersions.class);
+        blogManager = new BlogManager(blogRepository, blogMapper, blogSearchService, org.mockito.Mockito.mock(SuggestionService.class),
+                blogPostBodyRepository, new ObjectMapper().findAndRegisterModules(), contentVersions);
     }
 
     @Test
-    void getAll_shouldReturnListOfGetBlogResponse() {
-        BlogPost blogPost = new BlogPost();
-        blogPost.setId(1);
-        blogPost.setTitle("Test Title");
+    void getAll_shouldReturnSummaries_withoutLoadingEntities() {
+        GetBlogSummaryResponse summary = new GetBlogSummaryResponse();
+        summary.setId(1);
+        summary.setTitle("Test Title");
+
+        org.springframework.data.domain.Page<GetBlogSummaryResponse> summaryPage = new org.springframework.data.domain.PageImpl<>(List.of(summary));
+
+        Mockito.when(blogRepository.findSummaries(Mockito.any(org.springframework.data.domain.Pageable.class)))
+                .thenReturn(summaryPage);
+
+        org.springframework.data.domain.Page<GetBlogSummaryResponse> result = blogManager.getAll(0, 5);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals("Test Title", result.getContent().get(0).getTitle());
+
+        Mockito.verify(blogRepository, Mockito.times(1)).findSummaries(Mockito.any(org.springframework.data.domain.Pageable.class));
+        Mockito.verify(blogRepository, Mockito.never()).findAll(Mockito.any(org.springframework.data.domain.Pageable.class));
+    }
+
+    @Test
+    void getFeed_shouldSeekPastCursor_whenNextCursorIsPassedBack() {
+        GetBlogSummaryResponse newest = new GetBlogSummaryResponse(9, "Newest", "General", java.time.LocalDate.of(2026, 10, 18), "", 1);
+        GetBlogSummaryResponse sameDay = new GetBlogSummaryResponse(7, "Same day", "General", java.time.LocalDate.of(2026, 10, 18), "", 1);
+        GetBlogSummaryResponse older = new GetBlogSummaryResponse(8, "Older", "General", java.time.LocalDate.of(2026, 10, 2), "", 1);
+        Mockito.when(blogRepository.findFirstSummaries(Mockito.any())).thenReturn(List.of(newest, sameDay, older));
+        Mockito.when(blogRepository.findSummariesBefore(Mockito.eq(java.time.LocalDate.of(2026, 10, 18)), Mockito.eq(7), Mockito.any()))
+                .thenReturn(List.of(older));
+
+        var first = blogManager.getFeed(null, 2, false);
+        var second = blogManager.getFeed(first.nextCursor(), 2, false);
+
+        assertEquals(List.of(newest, sameDay), first.content());
+        assertNull(first.totalElements());
+        assertEquals(List.of(older), second.content());
+        assertNull(second.nextCursor());
+        Mockito.verify(blogRepository, Mockito.never()).count();
+    }
 
-        List<BlogPost> blogList = List.of(blogPost);
-        org.springframework.data.domain.Page<BlogPost> blogPage = new org.springframework.data.domain.PageImpl<>(blogList);
+    @Test
+    void getFeed_shouldRejectCursor_whenItIsNotOneWeIssued() {
+        assertThrows(BusinessException.class, () -> blogManager.getFeed("not-a-cursor", 10, false));
+    }
 
+    @Test
+    void add_shouldStoreRenderedAndCompressedBody() {
+        CreateBlogRequest request = new CreateBlogRequest();
+        request.setTitle("Rendered Title");
+        BlogPost blogPost = new BlogPost();
+        blogPost.setId(4);
+        blogPost.setContent("Some **bold** text <script>alert(1)</script>");
         GetBlogResponse response = new GetBlogResponse();
-        response.setId(1);
-        response.setTitle("Test Title");
+        response.setId(4);
+
+        Mockito.when(blogMapper.toBlogPost(request)).thenReturn(blogPost);
+        Mockito.when(blogMapper.toResponse(blogPost)).thenReturn(response);
+
+        blogManager.add(request);
+
+        assertEquals("<p>Some <strong>bold</strong> text &lt;script&gt;alert(1)&lt;/script&gt;</p>\n", blogPost.getContentHtml());
+        org.mockito.ArgumentCaptor<BlogPostBody> body = org.mockito.ArgumentCaptor.forClass(BlogPostBody.class);
+        Mockito.verify(blogPostBodyRepository).save(body.capture());
+        assertEquals(4, body.getValue().getPostId());
+        assertNotNull(body.getValue().getJsonGzip());
+    }
+
+    @Test
+    void getEncodedById_shouldServeStoredBrotli_whenClientAcceptsIt() {
+        org.junit.jupiter.api.Assumptions.assumeTrue(ContentEncodings.isBrotliAvailable());
+        byte[] brotli = {1, 2, 3};
+        Mockito.when(blogPostBodyRepository.findJsonBrotli(4)).thenReturn(java.util.Optional.of(brotli));
+
+        EncodedBody body = blogManager.getEncodedById(4, "gzip, deflate, br");
+
+        assertEquals("br", body.encoding());
+        assertSame(brotli, body.bytes());
+        Mockito.verify(blogRepository, Mockito.never()).findById(4);
+    }
+
+    @Test
+    void getEncodedById_shouldServeGzip_whenRowHasNoBrotli() {
+        byte[] gzip = {4, 5, 6};
+        Mockito.when(blogPostBodyRepository.findJsonBrotli(4)).thenReturn(java.util.Optional.empty());
+        Mockito.when(blogPostBodyRepository.findJsonGzip(4)).thenReturn(java.util.Optional.of(gzip));
 
-        Mockito.when(blogRepository.findAll(Mockito.any(org.springframework.data.domain.Pageable.class)))
-                .thenReturn(blogPage);
+        EncodedBody body = blogManager.getEncodedById(4, "gzip, deflate, br");
 
+        assertEquals("gzip", body.encoding());
+        assertSame(gzip, body.bytes());
+        Mockito.verify(blogPostBodyRepository, Mockito.never()).findJson(4);
+    }
+
+    @Test
+    void getEncodedById_shouldRenderWithoutWriting_whenBodyIsNotStoredYet() {
+        BlogPost blogPost = new BlogPost();
+        blogPost.setId(4);
+        blogPost.setContent("Some **bold** text");
+        GetBlogResponse response = new GetBlogResponse();
+        response.setId(4);
+        Mockito.when(blogPostBodyRepository.findJsonBrotli(4)).thenReturn(java.util.Optional.empty());
+        Mockito.when(blogPostBodyRepository.findJsonGzip(4)).thenReturn(java.util.Optional.empty());
+        Mockito.when(blogPostBodyRepository.findJson(4)).thenReturn(java.util.Optional.empty());
+        Mockito.when(blogRepository.findById(4)).thenReturn(java.util.Optional.of(blogPost));
         Mockito.when(blogMapper.toResponse(blogPost)).thenReturn(response);
 
-        org.springframework.data.domain.Page<GetBlogResponse> result = blogManager.getAll(0, 5);
+        EncodedBody body = blogManager.getEncodedById(4, "gzip, br");
 
-        assertEquals(1, result.getContent().size());
-        assertEquals("Test Title", result.getContent().get(0).getTitle());
+        assertEquals(ContentEncodings.IDENTITY, body.encoding());
+        assertTrue(new String(body.bytes(), java.nio.charset.StandardCharsets.UTF_8).contains("<strong>bold</strong>"));
+        assertNull(blogPost.getContentHtml());
+        Mockito.verify(blogRepository, Mockito.never()).save(Mockito.any());
+        Mockito.verify(blogPostBodyRepository, Mockito.never()).save(Mockito.any());
+    }
+
+    @Test
+    void getEncodedById_shouldThrowException_whenBlogIdDoesNotExist() {
+        Mockito.when(blogPostBodyRepository.findJsonBrotli(9)).thenReturn(java.util.Optional.empty());
+        Mockito.when(blogPostBodyRepository.findJsonGzip(9)).thenReturn(java.util.Optional.empty());
+        Mockito.when(blogPostBodyRepository.findJson(9)).thenReturn(java.util.Optional.empty());
+        Mockito.when(blogRepository.findById(9)).thenReturn(java.util.Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> blogManager.getEncodedById(9, "gzip"));
+    }
+
+    @Test
+    void backfillSummaries_shouldStoreBodies_andContinuePastFailures() {
+        BlogPost failing = new BlogPost();
+        failing.setId(1);
+        failing.setContent("first");
+        BlogPost old = new BlogPost();
+        old.setId(2);
+        old.setContent("second post");
+        Mockito.when(blogRepository.findNeedingBackfill(BlogManager.BODY_FORMAT)).thenReturn(List.of(failing, old));
+        Mockito.when(blogMapper.toResponse(Mockito.any())).thenReturn(new GetBlogResponse());
+        Mockito.when(blogRepository.save(failing)).thenThrow(new org.springframework.dao.DataIntegrityViolationException("race"));
+
+        blogManager.backfillSummaries();
+
+        org.mockito.ArgumentCaptor<BlogPostBody> body = org.mockito.ArgumentCaptor.forClass(BlogPostBody.class);
+        Mockito.verify(blogPostBodyRepository).save(body.capture());
+        assertEquals(2, body.getValue().getPostId());
+        assertEquals(BlogManager.BODY_FORMAT, body.getValue().getFormat());
+        assertEquals("<p>second post</p>\n", old.getContentHtml());
+        Mockito.verify(contentVersions).bump(ContentVersions.BLOGS);
+    }
+
+    @Test
+    void getSourceById_shouldThrowException_whenBlogIdDoesNotExist() {
+        Mockito.when(blogRepository.findById(1)).thenReturn(java.util.Optional.empty());
 
-        Mockito.verify(blogRepository, Mockito.times(1)).findAll(Mockito.any(org.springframework.data.domain.Pageable.class));
+        assertThrows(NotFoundException.class, () -> blogManager.getSourceById(1));
     }
 
 
@@ -68,6 +215,8 @@ class BlogManagerTest {
         blogManager.add(request);
 
         Mockito.verify(blogRepository, Mockito.times(1)).save(blogPost);
+        assertNotNull(blogPost.getExcerpt());
+        assertEquals(1, blogPost.getReadingMinutes());
     }
 
     @Test
@@ -100,6 +249,8 @@ class BlogManagerTest {
 
         Mockito.verify(blogMapper, Mockito.times(1)).updateBlogPostFromRequest(request, existingBlogPost);
         Mockito.verify(blogRepository, Mockito.times(1)).save(existingBlogPost);
+        assertNotNull(existingBlogPost.getUpdatedAt());
+        Mockito.verify(contentVersions).bump(ContentVersions.BLOGS);
     }
 
     @Test
@@ -123,6 +274,8 @@ class BlogManagerTest {
         blogManager.delete(1);
 
         Mockito.verify(blogRepository, Mockito.times(1)).deleteById(1);
+        Mockito.verify(blogSearchService, Mockito.times(1)).remove(1);
+        Mockito.verify(contentVersions).bump(ContentVersions.BLOGS);
     }
 
     @Test
@@ -132,6 +285,44 @@ class BlogManagerTest {
         assertThrows(RuntimeException.class, () -> blogManager.delete(1));
 
         Mockito.verify(blogRepository, Mockito.never()).deleteById(1);
+        Mockito.verifyNoInteractions(contentVersions);
     }
 
+    @Test
+    void add_shouldIndexPost_onlyAfterCommit() {
+        CreateBlogRequest request = new CreateBlogRequest();
+        request.setTitle("Pending Title");
+        BlogPost blogPost = new BlogPost();
+        blogPost.setId(5);
+        blogPost.setContent("text");
+        Mockito.when(blogMapper.toBlogPost(request)).thenReturn(blogPost);
+        Mockito.when(blogMapper.toResponse(blogPost)).thenReturn(new GetBlogResponse());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            blogManager.add(request);
+            Mockito.verify(blogSearchService, Mockito.never()).index(blogPost);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            Mockito.verify(blogSearchService).index(blogPost);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void delete_shouldKeepPostInIndex_whenTransactionRollsBack() {
+        Mockito.when(blogRepository.existsById(1)).thenReturn(true);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            blogManager.delete(1);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        Mockito.verify(blogSearchService, Mockito.never()).remove(1);
+    }
 }
\ No newline at end of file
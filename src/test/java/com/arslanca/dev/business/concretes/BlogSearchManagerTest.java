@@ -0,0 +1,51 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.business.dto.responses.BlogSearchResponse;
+import com.arslanca.dev.dataAccess.BlogRepository;
+import com.arslanca.dev.dataAccess.BlogSearchRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlogSearchManagerTest {
+
+    private BlogRepository blogRepository;
+    private BlogSearchManager blogSearchManager;
+
+    @BeforeEach
+    void setUp() {
+        blogRepository = Mockito.mock(BlogRepository.class);
+        blogSearchManager = new BlogSearchManager(blogRepository);
+    }
+
+    @Test
+    void rebuild_shouldReadPostsInKeysetPages_untilAShortPage() {
+        Mockito.when(blogRepository.findSearchRowsAfter(Mockito.eq(0), Mockito.any())).thenReturn(rows(1, 200));
+        Mockito.when(blogRepository.findSearchRowsAfter(Mockito.eq(200), Mockito.any())).thenReturn(rows(201, 3));
+
+        blogSearchManager.rebuild();
+
+        ArgumentCaptor<Pageable> pages = ArgumentCaptor.forClass(Pageable.class);
+        Mockito.verify(blogRepository, Mockito.times(2)).findSearchRowsAfter(Mockito.anyInt(), pages.capture());
+        assertEquals(200, pages.getValue().getPageSize());
+        Mockito.verify(blogRepository, Mockito.never()).findAll();
+
+        BlogSearchResponse response = blogSearchManager.search("post203", 10);
+        assertEquals(1L, response.getTotal());
+        assertEquals(203, response.getHits().get(0).getId());
+    }
+
+    private static List<BlogSearchRow> rows(int from, int count) {
+        return IntStream.range(from, from + count)
+                .mapToObj(id -> new BlogSearchRow(id, "post" + id, "Java", LocalDate.of(2024, 1, 1), "body of post" + id))
+                .toList();
+    }
+}
@@ -1,9 +1,11 @@
 package com.arslanca.dev.business.concretes;
 
+import com.arslanca.dev.business.abstracts.SuggestionService;
 import com.arslanca.dev.business.dto.requests.CreatePinnedProjectRequest;
 import com.arslanca.dev.business.dto.requests.UpdatePinnedProjectRequest;
 import com.arslanca.dev.business.dto.responses.PinnedProjectResponse;
 import com.arslanca.dev.business.mappers.PinnedProjectMapper;
+import com.arslanca.dev.core.utilities.http.ContentVersions;
 import com.arslanca.dev.dataAccess.PinnedProjectRepository;
 import com.arslanca.dev.entities.PinnedProject;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,7 +27,8 @@ class PinnedProjectManagerTest {
     void setUp() {
         pinnedProjectRepository = org.mockito.Mockito.mock(PinnedProjectRepository.class);
         pinnedProjectMapper = org.mockito.Mockito.mock(PinnedProjectMapper.class);
-        pinnedProjectManager = new PinnedProjectManager(pinnedProjectRepository, pinnedProjectMapper);
+        pinnedProjectManager = new PinnedProjectManager(pinnedProjectRepository, pinnedProjectMapper, org.mockito.Mockito.mock(SuggestionService.class),
+                org.mockito.Mockito.mock(ContentVersions.class));
     }
 
     @Test
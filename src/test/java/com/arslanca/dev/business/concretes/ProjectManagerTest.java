@@ -1,13 +1,17 @@
 package com.arslanca.dev.business.concretes;
 
 import com.arslanca.dev.adapters.GithubAdapter;
+import com.arslanca.dev.business.dto.requests.ProjectQuery;
 import com.arslanca.dev.business.dto.responses.GithubRepoResponse;
+import com.arslanca.dev.core.utilities.http.ContentVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.data.domain.Page;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -20,7 +24,7 @@ class ProjectManagerTest {
     @BeforeEach
     void setUp() {
         githubAdapter = Mockito.mock(GithubAdapter.class);
-        projectManager = new ProjectManager(githubAdapter);
+        projectManager = new ProjectManager(githubAdapter, org.mockito.Mockito.mock(ContentVersions.class));
         mockRepos = new ArrayList<>();
 
         for (int i = 1; i <= 25; i++) {
@@ -70,4 +74,33 @@ class ProjectManagerTest {
 
         assertEquals(25, result.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void search_shouldSortByStarsNumerically_whenSortIsStars() {
+        mockRepos.get(0).setStars("9");
+        mockRepos.get(1).setStars("120");
+        mockRepos.get(2).setStars("15");
+        Mockito.when(githubAdapter.getRepos()).thenReturn(mockRepos);
+
+        Page<GithubRepoResponse> result = projectManager.search(new ProjectQuery(null, null, null, ProjectQuery.Sort.STARS), 1, 3);
+
+        assertEquals(List.of("Repo 2", "Repo 3", "Repo 1"), result.getContent().stream().map(GithubRepoResponse::getName).toList());
+        assertEquals(25, result.getTotalElements());
+    }
+
+    @Test
+    void search_shouldMatchPrimaryAndEnrichedLanguages_whenLanguageIsGiven() {
+        mockRepos.get(3).setLanguage("Java");
+        mockRepos.get(7).setLanguage("TypeScript");
+        mockRepos.get(7).setLanguages(Map.of("TypeScript", 9000L, "Java", 200L));
+        mockRepos.get(7).setTopics(List.of("portfolio"));
+        Mockito.when(githubAdapter.getRepos()).thenReturn(mockRepos);
+
+        Page<GithubRepoResponse> java = projectManager.search(new ProjectQuery("java", null, null, ProjectQuery.Sort.UPDATED), 1, 10);
+        Page<GithubRepoResponse> portfolio = projectManager.search(new ProjectQuery("java", "Portfolio", "repo 8", ProjectQuery.Sort.UPDATED), 1, 10);
+
+        assertEquals(List.of("Repo 4", "Repo 8"), java.getContent().stream().map(GithubRepoResponse::getName).toList());
+        assertEquals(2, java.getTotalElements());
+        assertEquals(1, portfolio.getTotalElements());
+    }
+}
@@ -1,13 +1,18 @@
 package com.arslanca.dev.business.concretes;
 
+import com.arslanca.dev.business.abstracts.SuggestionService;
 import com.arslanca.dev.business.dto.requests.CreateTechStackRequest;
 import com.arslanca.dev.business.dto.responses.GetTechStackResponse;
+import com.arslanca.dev.business.dto.responses.SuggestionResponse;
 import com.arslanca.dev.business.mappers.TechStackMapper;
+import com.arslanca.dev.core.utilities.http.ContentVersions;
 import com.arslanca.dev.dataAccess.TechStackRepository;
 import com.arslanca.dev.entities.TechStack;
 import com.arslanca.dev.entities.enums.StackLevel;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 
@@ -18,12 +23,15 @@ class TechStackManagerTest {
     private TechStackManager techStackManager;
     private TechStackRepository techStackRepository;
     private TechStackMapper techStackMapper;
+    private SuggestionService suggestionService;
 
     @BeforeEach
     void setUp() {
         techStackRepository = org.mockito.Mockito.mock(TechStackRepository.class);
         techStackMapper = org.mockito.Mockito.mock(TechStackMapper.class);
-        techStackManager = new TechStackManager(techStackRepository, techStackMapper);
+        suggestionService = org.mockito.Mockito.mock(SuggestionService.class);
+        techStackManager = new TechStackManager(techStackRepository, techStackMapper, suggestionService,
+                org.mockito.Mockito.mock(ContentVersions.class));
     }
 
     @Test
@@ -140,4 +148,19 @@ class TechStackManagerTest {
         org.mockito.Mockito.verify(techStackRepository, org.mockito.Mockito.never()).deleteById(techStackId);
     }
 
-}
\ No newline at end of file
+    @Test
+    void delete_shouldKeepSuggestion_whenEnclosingTransactionRollsBack() {
+        org.mockito.Mockito.when(techStackRepository.existsById(3)).thenReturn(true);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            techStackManager.delete(3);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        org.mockito.Mockito.verify(suggestionService, org.mockito.Mockito.never()).remove(SuggestionResponse.TECH_STACK, 3);
+    }
+}
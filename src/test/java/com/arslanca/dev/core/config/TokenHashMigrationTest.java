@@ -0,0 +1,65 @@
+package com.arslanca.dev.core.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.ArgumentMatchers.*;
+
+class TokenHashMigrationTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TokenHashMigration tokenHashMigration;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        Mockito.when(jdbcTemplate.queryForObject(contains("information_schema"), eq(Integer.class), any(), eq("token")))
+                .thenReturn(1);
+        Mockito.when(jdbcTemplate.queryForObject(contains("token_hash IS NULL"), eq(Integer.class))).thenReturn(0);
+        tokenHashMigration = new TokenHashMigration(jdbcTemplate);
+    }
+
+    @Test
+    void migrate_shouldBackfillWithoutAnythingAnOlderBuildCannotInsertInto() {
+        tokenHashMigration.migrate();
+
+        Mockito.verify(jdbcTemplate).update(startsWith("UPDATE refresh_token SET token_hash"));
+        Mockito.verify(jdbcTemplate).execute("ALTER TABLE refresh_token ALTER COLUMN token DROP NOT NULL");
+        Mockito.verify(jdbcTemplate, Mockito.never()).execute(contains("DROP COLUMN"));
+        Mockito.verify(jdbcTemplate, Mockito.never()).execute(contains("token_hash SET NOT NULL"));
+        Mockito.verify(jdbcTemplate, Mockito.never()).execute(contains("UNIQUE"));
+    }
+
+    @Test
+    void dropLegacyColumns_shouldKeepColumn_whenFlagIsOff() {
+        tokenHashMigration.dropLegacyColumns();
+
+        Mockito.verify(jdbcTemplate, Mockito.never()).execute(contains("DROP COLUMN"));
+        Mockito.verify(jdbcTemplate, Mockito.never()).execute(contains("SET NOT NULL"));
+    }
+
+    @Test
+    void dropLegacyColumns_shouldDropColumn_whenFlagIsOnAndEveryRowIsHashed() {
+        ReflectionTestUtils.setField(tokenHashMigration, "dropLegacyColumn", true);
+
+        tokenHashMigration.dropLegacyColumns();
+
+        Mockito.verify(jdbcTemplate).execute("ALTER TABLE refresh_token ALTER COLUMN token_hash SET NOT NULL");
+        Mockito.verify(jdbcTemplate).execute("CREATE UNIQUE INDEX IF NOT EXISTS uk_refresh_token_token_hash ON refresh_token (token_hash)");
+        Mockito.verify(jdbcTemplate).execute("ALTER TABLE refresh_token DROP COLUMN token");
+        Mockito.verify(jdbcTemplate).execute("ALTER TABLE revoked_token DROP COLUMN token");
+    }
+
+    @Test
+    void dropLegacyColumns_shouldKeepColumn_whenRowsAreStillUnhashed() {
+        ReflectionTestUtils.setField(tokenHashMigration, "dropLegacyColumn", true);
+        Mockito.when(jdbcTemplate.queryForObject(contains("token_hash IS NULL"), eq(Integer.class))).thenReturn(3);
+
+        tokenHashMigration.dropLegacyColumns();
+
+        Mockito.verify(jdbcTemplate, Mockito.never()).execute(contains("DROP COLUMN"));
+    }
+}
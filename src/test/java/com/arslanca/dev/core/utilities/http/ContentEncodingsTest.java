@@ -0,0 +1,46 @@
+package com.arslanca.dev.core.utilities.http;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentEncodingsTest {
+
+    @Test
+    void negotiate_shouldPreferBrotliThenGzip_whenBothAreAccepted() {
+        assertEquals("br", ContentEncodings.negotiate("gzip, deflate, br", true, true));
+        assertEquals("gzip", ContentEncodings.negotiate("gzip, deflate, br", false, true));
+        assertEquals("identity", ContentEncodings.negotiate(null, true, true));
+    }
+
+    @Test
+    void negotiate_shouldHonourZeroQuality_whenCodingIsRefused() {
+        assertEquals("gzip", ContentEncodings.negotiate("br;q=0, gzip;q=0.8", true, true));
+        assertEquals("identity", ContentEncodings.negotiate("*;q=0, identity", true, true));
+        assertEquals("br", ContentEncodings.negotiate("*", true, true));
+    }
+
+    @Test
+    void brotli_shouldShrinkBody_whenNativeLibraryLoads() {
+        Assumptions.assumeTrue(Brotli4jLoader.isAvailable());
+        byte[] json = "{\"content\":\"%s\"}".formatted("hello ".repeat(200)).getBytes(StandardCharsets.UTF_8);
+
+        assertTrue(ContentEncodings.brotli(json).length < json.length / 10);
+    }
+
+    @Test
+    void gzip_shouldRoundTrip() throws IOException {
+        byte[] json = "{\"content\":\"hello hello hello\"}".getBytes(StandardCharsets.UTF_8);
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(ContentEncodings.gzip(json)))) {
+            assertArrayEquals(json, in.readAllBytes());
+        }
+    }
+}
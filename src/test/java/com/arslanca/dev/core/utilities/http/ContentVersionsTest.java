@@ -0,0 +1,79 @@
+package com.arslanca.dev.core.utilities.http;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentVersionsTest {
+
+    private static final Instant WRITTEN = Instant.parse("2026-10-18T09:15:30.123456Z");
+
+    private ContentVersions contentVersions;
+    private final AtomicReference<ContentState> state = new AtomicReference<>(new ContentState(3, WRITTEN));
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        contentVersions = new ContentVersions();
+        ReflectionTestUtils.setField(contentVersions, "ttlMs", 60_000L);
+        contentVersions.track(ContentVersions.BLOGS, () -> {
+            loads.incrementAndGet();
+            return state.get();
+        });
+    }
+
+    @Test
+    void current_shouldDeriveSameETag_whenStateIsTheSame() {
+        ContentVersions.Version version = contentVersions.current(ContentVersions.BLOGS);
+
+        ContentVersions other = new ContentVersions();
+        other.track(ContentVersions.BLOGS, state::get);
+
+        assertEquals(version.etag(), other.current(ContentVersions.BLOGS).etag());
+        assertTrue(version.etag().startsWith("W/\"blogs-3."));
+        assertEquals(WRITTEN.toEpochMilli(), version.lastModified());
+    }
+
+    @Test
+    void current_shouldNotReload_untilBumped() {
+        String before = contentVersions.current(ContentVersions.BLOGS).etag();
+        contentVersions.current(ContentVersions.BLOGS);
+        assertEquals(1, loads.get());
+
+        state.set(new ContentState(4, WRITTEN.plusSeconds(5)));
+        contentVersions.bump(ContentVersions.BLOGS);
+
+        ContentVersions.Version after = contentVersions.current(ContentVersions.BLOGS);
+        assertEquals(2, loads.get());
+        assertNotEquals(before, after.etag());
+        assertEquals(WRITTEN.plusSeconds(5).toEpochMilli(), after.lastModified());
+    }
+
+    @Test
+    void current_shouldMoveLastModified_whenRowWasDeleted() {
+        ContentVersions.Version before = contentVersions.current(ContentVersions.BLOGS);
+
+        state.set(new ContentState(2, WRITTEN));
+        contentVersions.bump(ContentVersions.BLOGS);
+
+        ContentVersions.Version after = contentVersions.current(ContentVersions.BLOGS);
+        assertNotEquals(before.etag(), after.etag());
+        assertTrue(after.lastModified() > before.lastModified());
+    }
+
+    @Test
+    void bump_shouldChangeETag_whenAggregateIsInMemory() {
+        String before = contentVersions.current(ContentVersions.PROJECTS).etag();
+        assertEquals(before, contentVersions.current(ContentVersions.PROJECTS).etag());
+
+        contentVersions.bump(ContentVersions.PROJECTS);
+
+        assertNotEquals(before, contentVersions.current(ContentVersions.PROJECTS).etag());
+    }
+}
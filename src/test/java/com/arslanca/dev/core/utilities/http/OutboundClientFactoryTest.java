@@ -0,0 +1,132 @@
+package com.arslanca.dev.core.utilities.http;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutboundClientFactoryTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch slowStarted = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private UpstreamProperties.Upstream settings;
+    private OutboundClientFactory outboundClientFactory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> respond(exchange, 200));
+        server.createContext("/fail", exchange -> respond(exchange, 503));
+        server.createContext("/slow", exchange -> {
+            slowStarted.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200);
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        settings = new UpstreamProperties.Upstream();
+        settings.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        settings.setReadTimeout(Duration.ofMillis(300));
+        settings.setFailureThreshold(3);
+        settings.setOpenDuration(Duration.ofMillis(200));
+        UpstreamProperties upstreamProperties = new UpstreamProperties();
+        upstreamProperties.getUpstreams().put("stub", settings);
+        outboundClientFactory = new OutboundClientFactory(RestClient.builder(), upstreamProperties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void call_shouldFailWithinReadTimeout_whenUpstreamHangs() {
+        RestClient client = outboundClientFactory.builder("stub").build();
+
+        long start = System.nanoTime();
+        assertThrows(ResourceAccessException.class, () -> client.get().uri("/slow").retrieve().body(String.class));
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(3));
+        assertEquals(1, meterRegistry.get("http.client.upstream").tag("outcome", "failure").timer().count());
+    }
+
+    @Test
+    void call_shouldFailFastWithoutNetwork_whenCircuitIsOpen() {
+        RestClient client = outboundClientFactory.builder("stub").build();
+        for (int i = 0; i < 3; i++) {
+            assertThrows(RuntimeException.class, () -> client.get().uri("/fail").retrieve().body(String.class));
+        }
+        int hitsWhenOpened = hits.get();
+
+        assertThrows(UpstreamUnavailableException.class, () -> client.get().uri("/ok").retrieve().body(String.class));
+        assertEquals(hitsWhenOpened, hits.get());
+    }
+
+    @Test
+    void call_shouldCloseCircuit_whenTrialCallSucceedsAfterOpenDuration() throws InterruptedException {
+        RestClient client = outboundClientFactory.builder("stub").build();
+        for (int i = 0; i < 3; i++) {
+            assertThrows(RuntimeException.class, () -> client.get().uri("/fail").retrieve().body(String.class));
+        }
+
+        Thread.sleep(250);
+
+        assertEquals("ok", client.get().uri("/ok").retrieve().body(String.class));
+        assertEquals("ok", client.get().uri("/ok").retrieve().body(String.class));
+    }
+
+    @Test
+    void call_shouldRejectExtraCalls_whenBulkheadIsFull() throws Exception {
+        settings.setMaxConcurrent(1);
+        settings.setReadTimeout(Duration.ofSeconds(5));
+        RestClient client = outboundClientFactory.builder("stub").build();
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> inFlight = callers.submit(() -> client.get().uri("/slow").retrieve().body(String.class));
+            assertTrue(slowStarted.await(5, TimeUnit.SECONDS));
+
+            assertThrows(UpstreamUnavailableException.class, () -> client.get().uri("/ok").retrieve().body(String.class));
+
+            release.countDown();
+            assertEquals("ok", inFlight.get(5, TimeUnit.SECONDS));
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    private void respond(com.sun.net.httpserver.HttpExchange exchange, int status) throws IOException {
+        hits.incrementAndGet();
+        byte[] body = (status == 200 ? "ok" : "error").getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+}
@@ -0,0 +1,87 @@
+package com.arslanca.dev.core.utilities.interceptors;
+
+import com.arslanca.dev.core.utilities.http.ContentVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConditionalGetInterceptorTest {
+
+    private ContentVersions contentVersions;
+    private ConditionalGetInterceptor conditionalGetInterceptor;
+    private final ConditionalGetResponseAdvice conditionalGetResponseAdvice = new ConditionalGetResponseAdvice();
+
+    @BeforeEach
+    void setUp() {
+        contentVersions = new ContentVersions();
+        conditionalGetInterceptor = new ConditionalGetInterceptor(contentVersions, ContentVersions.BLOGS, "Accept-Encoding");
+    }
+
+    @Test
+    void preHandle_shouldAnswerNotModified_withValidatorsAndVary_whenETagMatches() {
+        String etag = contentVersions.current(ContentVersions.BLOGS).etag();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/blogs/7");
+        request.addHeader("If-None-Match", etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(conditionalGetInterceptor.preHandle(request, response, null));
+        assertEquals(304, response.getStatus());
+        assertEquals(etag, response.getHeader("ETag"));
+        assertNotNull(response.getHeader("Last-Modified"));
+        assertEquals("Accept-Encoding", response.getHeader("Vary"));
+    }
+
+    @Test
+    void preHandle_shouldLetRequestThrough_whenContentChangedSinceETag() {
+        String etag = contentVersions.current(ContentVersions.BLOGS).etag();
+        contentVersions.bump(ContentVersions.BLOGS);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/blogs/7");
+        request.addHeader("If-None-Match", etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(conditionalGetInterceptor.preHandle(request, response, null));
+        assertEquals(200, response.getStatus());
+        assertNull(response.getHeader("ETag"));
+    }
+
+    @Test
+    void beforeBodyWrite_shouldAddValidators_whenResponseIsSuccessful() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/blogs/7");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(conditionalGetInterceptor.preHandle(request, response, null));
+
+        writeBody(request, response);
+
+        assertEquals(contentVersions.current(ContentVersions.BLOGS).etag(), response.getHeader("ETag"));
+        assertNotNull(response.getHeader("Last-Modified"));
+    }
+
+    @Test
+    void beforeBodyWrite_shouldLeaveOutValidators_whenResponseIsAnError() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/blogs/999");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(conditionalGetInterceptor.preHandle(request, response, null));
+        response.setStatus(404);
+
+        writeBody(request, response);
+
+        assertNull(response.getHeader("ETag"));
+        assertNull(response.getHeader("Last-Modified"));
+    }
+
+    private void writeBody(MockHttpServletRequest request, MockHttpServletResponse response) throws IOException {
+        ServletServerHttpResponse outputMessage = new ServletServerHttpResponse(response);
+        conditionalGetResponseAdvice.beforeBodyWrite("{}", null, MediaType.APPLICATION_JSON, null,
+                new ServletServerHttpRequest(request), outputMessage);
+        outputMessage.flush();
+    }
+}
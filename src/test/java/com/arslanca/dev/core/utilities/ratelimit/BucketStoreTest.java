@@ -0,0 +1,106 @@
+package com.arslanca.dev.core.utilities.ratelimit;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.Refill;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BucketStoreTest {
+
+    private BucketStore bucketStore;
+
+    @BeforeEach
+    void setUp() {
+        bucketStore = new BucketStore(1000, Duration.ofHours(1),
+                (high, low) -> Bucket.builder().addLimit(Bandwidth.classic(3, Refill.greedy(3, Duration.ofHours(1)))).build());
+    }
+
+    @Test
+    void resolve_shouldReturnSameBucket_whenAddressIsRepeated() {
+        String address = "203.0.113.7";
+
+        Bucket first = bucketStore.resolve(ClientAddress.high(address), ClientAddress.low(address));
+        Bucket second = bucketStore.resolve(ClientAddress.high(address), ClientAddress.low(address));
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void resolve_shouldNeverExceedCapacity_whenMillionsOfDistinctAddressesArrive() {
+        for (int i = 0; i < 2_000_000; i++) {
+            bucketStore.resolve(0L, 0x0000_FFFF_0000_0000L | i);
+        }
+
+        assertTrue(bucketStore.size() <= 1008);
+    }
+
+    @Test
+    void resolve_shouldKeepRecentBucket_whenOlderEntriesAreEvicted() {
+        Bucket hot = bucketStore.resolve(0L, 1L);
+        for (int i = 2; i < 100_000; i++) {
+            bucketStore.resolve(0L, i);
+            if (i % 50 == 0) {
+                assertSame(hot, bucketStore.resolve(0L, 1L));
+            }
+        }
+    }
+
+    @Test
+    void evictIdle_shouldDropBuckets_whenTheyWouldBeFullAgain() {
+        BucketStore shortLived = new BucketStore(100, Duration.ZERO, (high, low) -> Bucket.builder()
+                .addLimit(Bandwidth.classic(1, Refill.greedy(1, Duration.ofSeconds(1)))).build());
+        for (int i = 0; i < 50; i++) {
+            shortLived.resolve(0L, i);
+        }
+
+        assertEquals(50, shortLived.evictIdle());
+        assertEquals(0, shortLived.size());
+    }
+
+    @Test
+    void resolve_shouldNotAllocate_whenAddressIsAlreadyKnown() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        String address = "2001:db8::1";
+        for (int i = 0; i < 200_000; i++) {
+            bucketStore.resolve(ClientAddress.high(address), ClientAddress.low(address));
+        }
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 1_000_000; i++) {
+            bucketStore.resolve(ClientAddress.high(address), ClientAddress.low(address));
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertTrue(allocated < 64 * 1024, "allocated " + allocated + " bytes");
+    }
+
+    @Test
+    void clientAddress_shouldTreatMappedAndPlainIpv4AsSameKey() {
+        assertEquals(ClientAddress.high("192.168.1.20"), ClientAddress.high("::ffff:192.168.1.20"));
+        assertEquals(ClientAddress.low("192.168.1.20"), ClientAddress.low("::ffff:192.168.1.20"));
+    }
+
+    @Test
+    void clientAddress_shouldExpandCompressedIpv6() {
+        assertEquals(0x20010db800000000L, ClientAddress.high("2001:db8::1"));
+        assertEquals(1L, ClientAddress.low("2001:db8::1"));
+        assertEquals(ClientAddress.low("2001:db8:0:0:0:0:0:1"), ClientAddress.low("2001:db8::1"));
+        assertEquals(0L, ClientAddress.high("::1"));
+        assertEquals(1L, ClientAddress.low("::1"));
+        assertEquals(ClientAddress.low("fe80::1"), ClientAddress.low("fe80::1%eth0"));
+    }
+
+    @Test
+    void clientAddress_shouldFallBackToHash_whenAddressIsNotAnIp() {
+        assertEquals(-1L, ClientAddress.high("unknown"));
+        assertEquals(-1L, ClientAddress.high("1.2.3"));
+        assertEquals(-1L, ClientAddress.high("1::2::3"));
+        assertNotEquals(ClientAddress.low("unknown"), ClientAddress.low("unknown2"));
+    }
+}
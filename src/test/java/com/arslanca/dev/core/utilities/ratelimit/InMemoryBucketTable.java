@@ -0,0 +1,50 @@
+package com.arslanca.dev.core.utilities.ratelimit;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stands in for the rate_limit_buckets table behind {@link PostgresCompareAndSwapProxyManager},
+ * answering exactly the statements it issues and counting them as database round trips.
+ */
+class InMemoryBucketTable extends JdbcTemplate {
+
+    final Map<Long, byte[]> rows = new ConcurrentHashMap<>();
+    final AtomicInteger roundTrips = new AtomicInteger();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+        roundTrips.incrementAndGet();
+        byte[] state = rows.get((Long) args[0]);
+        return state == null ? List.of() : List.of((T) state.clone());
+    }
+
+    @Override
+    public int update(String sql, Object... args) {
+        roundTrips.incrementAndGet();
+        if (sql.startsWith("INSERT")) {
+            return rows.putIfAbsent((Long) args[0], (byte[]) args[1]) == null ? 1 : 0;
+        }
+        if (sql.startsWith("UPDATE")) {
+            Long id = (Long) args[1];
+            byte[] expected = (byte[]) args[2];
+            boolean[] swapped = new boolean[1];
+            rows.computeIfPresent(id, (key, current) -> {
+                swapped[0] = Arrays.equals(current, expected);
+                return swapped[0] ? (byte[]) args[0] : current;
+            });
+            return swapped[0] ? 1 : 0;
+        }
+        if (sql.startsWith("DELETE")) {
+            return rows.remove((Long) args[0]) == null ? 0 : 1;
+        }
+        throw new IllegalArgumentException(sql);
+    }
+}
@@ -0,0 +1,88 @@
+package com.arslanca.dev.core.utilities.ratelimit;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.Refill;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostgresCompareAndSwapProxyManagerTest {
+
+    private static final BucketConfiguration FIVE_PER_HOUR = BucketConfiguration.builder()
+            .addLimit(Bandwidth.classic(5, Refill.greedy(5, Duration.ofHours(1))))
+            .build();
+
+    private InMemoryBucketTable table;
+
+    @BeforeEach
+    void setUp() {
+        table = new InMemoryBucketTable();
+    }
+
+    @Test
+    void tryConsume_shouldInsertRowOnFirstUse_andUpdateItAfterwards() {
+        Bucket bucket = new PostgresCompareAndSwapProxyManager(table).builder().build(42L, FIVE_PER_HOUR);
+
+        assertTrue(bucket.tryConsume(1));
+        byte[] afterInsert = table.rows.get(42L);
+        assertNotNull(afterInsert);
+        assertTrue(bucket.tryConsume(1));
+
+        assertFalse(Arrays.equals(afterInsert, table.rows.get(42L)));
+        assertEquals(3, bucket.getAvailableTokens());
+    }
+
+    @Test
+    void tryConsume_shouldShareQuota_betweenInstances() {
+        Bucket first = new PostgresCompareAndSwapProxyManager(table).builder().build(7L, FIVE_PER_HOUR);
+        Bucket second = new PostgresCompareAndSwapProxyManager(table).builder().build(7L, FIVE_PER_HOUR);
+
+        int consumed = 0;
+        for (int i = 0; i < 5; i++) {
+            consumed += first.tryConsume(1) ? 1 : 0;
+            consumed += second.tryConsume(1) ? 1 : 0;
+        }
+
+        assertEquals(5, consumed);
+    }
+
+    @Test
+    void tryConsume_shouldNeverOverspend_whenSwapsRace() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> attempts = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                Bucket bucket = new PostgresCompareAndSwapProxyManager(table).builder().build(9L, FIVE_PER_HOUR);
+                attempts.add(executor.submit(() -> bucket.tryConsume(1)));
+            }
+            int consumed = 0;
+            for (Future<Boolean> attempt : attempts) {
+                consumed += attempt.get() ? 1 : 0;
+            }
+            assertEquals(5, consumed);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void removeProxy_shouldDeleteRow() {
+        PostgresCompareAndSwapProxyManager proxyManager = new PostgresCompareAndSwapProxyManager(table);
+        proxyManager.builder().build(3L, FIVE_PER_HOUR).tryConsume(1);
+
+        proxyManager.removeProxy(3L);
+
+        assertFalse(table.rows.containsKey(3L));
+    }
+}
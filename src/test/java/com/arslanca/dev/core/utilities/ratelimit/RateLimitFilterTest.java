@@ -0,0 +1,98 @@
+package com.arslanca.dev.core.utilities.ratelimit;
+
+import com.arslanca.dev.dataAccess.RateLimitBucketRepository;
+import org.apache.catalina.filters.RemoteIpFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private RateLimitFilter rateLimitFilter;
+    // same logic as the valve behind server.forward-headers-strategy=native, with its default trusted proxies
+    private RemoteIpFilter remoteIpFilter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(2);
+        limit.setPeriod(Duration.ofHours(1));
+        RateLimitProperties.Policy contact = new RateLimitProperties.Policy();
+        contact.setName("contact");
+        contact.setPattern("/api/contact/**");
+        contact.setMethods(List.of("POST"));
+        contact.setAnonymous(limit);
+        contact.setMessage("Çok fazla mesaj gönderdiniz.");
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setPolicies(List.of(contact));
+
+        RateLimitService rateLimitService = new RateLimitService(properties, Mockito.mock(JdbcTemplate.class), Mockito.mock(RateLimitBucketRepository.class));
+        rateLimitService.init();
+        rateLimitFilter = new RateLimitFilter(rateLimitService);
+        remoteIpFilter = new RemoteIpFilter();
+        remoteIpFilter.setRemoteIpHeader("X-Forwarded-For");
+    }
+
+    @Test
+    void doFilter_shouldRejectWithRetryAfter_whenQuotaIsUsedUp() throws Exception {
+        assertEquals(200, send("203.0.113.7", null).getStatus());
+        MockHttpServletResponse second = send("203.0.113.7", null);
+        assertEquals("2", second.getHeader("RateLimit-Limit"));
+        assertEquals("0", second.getHeader("RateLimit-Remaining"));
+
+        MockHttpServletResponse third = send("203.0.113.7", null);
+
+        assertEquals(429, third.getStatus());
+        assertNotNull(third.getHeader("Retry-After"));
+        assertEquals("Çok fazla mesaj gönderdiniz.", third.getContentAsString());
+    }
+
+    @Test
+    void doFilter_shouldGiveEachClientOwnBucket_behindTrustedProxy() throws Exception {
+        send("10.0.0.5", "203.0.113.7");
+        send("10.0.0.5", "203.0.113.7");
+
+        assertEquals(429, send("10.0.0.5", "203.0.113.7").getStatus());
+        assertEquals(200, send("10.0.0.5", "198.51.100.20").getStatus());
+    }
+
+    @Test
+    void doFilter_shouldIgnoreForwardedFor_fromUntrustedAddress() throws Exception {
+        send("198.51.100.1", "203.0.113.1");
+        send("198.51.100.1", "203.0.113.2");
+
+        // rotating a spoofed header does not buy a fresh bucket
+        assertEquals(429, send("198.51.100.1", "203.0.113.3").getStatus());
+    }
+
+    @Test
+    void doFilter_shouldPassThrough_whenNoPolicyMatches() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/blogs");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        rateLimitFilter.doFilter(request, response, new MockFilterChain());
+
+        assertNull(response.getHeader("RateLimit-Limit"));
+        assertEquals(200, response.getStatus());
+    }
+
+    private MockHttpServletResponse send(String remoteAddr, String forwardedFor) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/contact");
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        remoteIpFilter.doFilter(request, response, (forwarded, out) -> rateLimitFilter.doFilter(forwarded, out, new MockFilterChain()));
+        return response;
+    }
+}
@@ -0,0 +1,122 @@
+package com.arslanca.dev.core.utilities.ratelimit;
+
+import com.arslanca.dev.dataAccess.RateLimitBucketRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitServiceTest {
+
+    private static final int REQUESTS = 20_000;
+    private static final int CLIENTS = 500;
+
+    private final InMemoryBucketTable table = new InMemoryBucketTable();
+
+    @Test
+    void modeFor_shouldKeepReadPoliciesLocal_unlessConfiguredOtherwise() {
+        RateLimitService service = service(properties(RateLimitProperties.Mode.SHARED));
+        RateLimitProperties.Policy blogs = service.match("GET", "/api/blogs/1");
+        RateLimitProperties.Policy pinned = policy("pinned", "/api/pinned/**", "GET");
+        pinned.setMode(RateLimitProperties.Mode.HYBRID);
+
+        assertEquals(RateLimitProperties.Mode.SHARED, service.modeFor(service.match("POST", "/api/contact")));
+        assertEquals(RateLimitProperties.Mode.SHARED, service.modeFor(service.match("POST", "/api/auth/login")));
+        assertEquals(RateLimitProperties.Mode.LOCAL, service.modeFor(blogs));
+        assertEquals(RateLimitProperties.Mode.HYBRID, service.modeFor(pinned));
+    }
+
+    @Test
+    void tryConsume_shouldNotTouchDatabase_forReadPolicies_inSharedMode() {
+        RateLimitService service = service(properties(RateLimitProperties.Mode.SHARED));
+        RateLimitProperties.Policy blogs = service.match("GET", "/api/blogs/1");
+
+        for (int i = 0; i < 100; i++) {
+            service.tryConsume(blogs, false, "198.51.100." + (i % 10));
+        }
+
+        assertEquals(0, table.roundTrips.get());
+    }
+
+    @Test
+    void tryConsume_shouldEnforceContactQuota_acrossInstances_inSharedMode() {
+        RateLimitProperties properties = properties(RateLimitProperties.Mode.SHARED);
+        RateLimitService first = service(properties);
+        RateLimitService second = service(properties);
+        RateLimitProperties.Policy contact = first.match("POST", "/api/contact");
+
+        int consumed = 0;
+        for (int i = 0; i < 5; i++) {
+            consumed += first.tryConsume(contact, false, "203.0.113.9").isConsumed() ? 1 : 0;
+            consumed += second.tryConsume(contact, false, "203.0.113.9").isConsumed() ? 1 : 0;
+        }
+
+        assertEquals(3, consumed);
+    }
+
+    // Not a JMH run, but enough to compare the modes on the two write endpoints the shared backend
+    // exists for: round trips per request are exact, the timings are printed for reference.
+    @Test
+    void benchmark_contactAndLoginThroughput_perMode() {
+        double local = run(RateLimitProperties.Mode.LOCAL);
+        double shared = run(RateLimitProperties.Mode.SHARED);
+        double hybrid = run(RateLimitProperties.Mode.HYBRID);
+
+        assertEquals(0, local);
+        assertTrue(shared >= 2, "shared mode needs a read and a swap per request, got " + shared);
+        assertTrue(hybrid < shared / 2, "hybrid " + hybrid + " vs shared " + shared);
+    }
+
+    private double run(RateLimitProperties.Mode mode) {
+        RateLimitProperties properties = properties(mode);
+        properties.getPolicies().forEach(policy -> policy.getAnonymous().setCapacity(1_000_000));
+        RateLimitService service = service(properties);
+        List<RateLimitProperties.Policy> policies = List.of(service.match("POST", "/api/contact"), service.match("POST", "/api/auth/login"));
+
+        for (int i = 0; i < REQUESTS / 10; i++) {
+            service.tryConsume(policies.get(i & 1), false, "10.0." + (i % CLIENTS / 250) + "." + (i % 250));
+        }
+        table.roundTrips.set(0);
+        long started = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            assertTrue(service.tryConsume(policies.get(i & 1), false, "10.0." + (i % CLIENTS / 250) + "." + (i % 250)).isConsumed());
+        }
+        long elapsed = System.nanoTime() - started;
+        double roundTrips = (double) table.roundTrips.get() / REQUESTS;
+        System.out.printf("rate limit %-6s contact+login: %,.0f req/s, %.2f db round trips/req%n",
+                mode, REQUESTS / (elapsed / 1e9), roundTrips);
+        return roundTrips;
+    }
+
+    private static RateLimitProperties properties(RateLimitProperties.Mode mode) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMode(mode);
+        properties.setSyncInterval(Duration.ofSeconds(5));
+        properties.setPolicies(List.of(
+                policy("contact", "/api/contact/**", "POST"),
+                policy("login", "/api/auth/login", "POST"),
+                policy("blogs", "/api/blogs/**", "GET")));
+        return properties;
+    }
+
+    private RateLimitService service(RateLimitProperties properties) {
+        RateLimitService service = new RateLimitService(properties, table, Mockito.mock(RateLimitBucketRepository.class));
+        service.init();
+        return service;
+    }
+
+    private static RateLimitProperties.Policy policy(String name, String pattern, String method) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(3);
+        limit.setPeriod(Duration.ofHours(1));
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+        policy.setName(name);
+        policy.setPattern(pattern);
+        policy.setMethods(List.of(method));
+        policy.setAnonymous(limit);
+        return policy;
+    }
+}
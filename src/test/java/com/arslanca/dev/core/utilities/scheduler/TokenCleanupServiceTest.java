@@ -0,0 +1,65 @@
+package com.arslanca.dev.core.utilities.scheduler;
+
+import com.arslanca.dev.dataAccess.RefreshTokenRepository;
+import com.arslanca.dev.dataAccess.RevokedTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenCleanupServiceTest {
+
+    private RevokedTokenRepository revokedTokenRepository;
+    private RefreshTokenRepository refreshTokenRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private TokenCleanupService tokenCleanupService;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenRepository = Mockito.mock(RevokedTokenRepository.class);
+        refreshTokenRepository = Mockito.mock(RefreshTokenRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        tokenCleanupService = new TokenCleanupService(revokedTokenRepository, refreshTokenRepository, meterRegistry);
+        ReflectionTestUtils.setField(tokenCleanupService, "batchSize", 1000);
+        ReflectionTestUtils.setField(tokenCleanupService, "timeBudgetMs", 10_000L);
+    }
+
+    @Test
+    void cleanupExpiredRevokedTokens_shouldDeleteInBatches_untilAShortBatch() {
+        Mockito.when(revokedTokenRepository.deleteExpiredBatch(Mockito.any(), Mockito.eq(1000)))
+                .thenReturn(1000, 1000, 5);
+
+        tokenCleanupService.cleanupExpiredRevokedTokens();
+
+        Mockito.verify(revokedTokenRepository, Mockito.times(3)).deleteExpiredBatch(Mockito.any(), Mockito.eq(1000));
+        assertEquals(2005, meterRegistry.counter("token.cleanup.rows", "table", "revoked_token").count());
+    }
+
+    @Test
+    void cleanupExpiredRefreshTokens_shouldStop_whenTimeBudgetRunsOut() {
+        ReflectionTestUtils.setField(tokenCleanupService, "timeBudgetMs", 50L);
+        Mockito.when(refreshTokenRepository.deleteExpiredBatch(Mockito.any(), Mockito.anyInt())).thenAnswer(invocation -> {
+            Thread.sleep(20);
+            return 1000;
+        });
+
+        long start = System.nanoTime();
+        tokenCleanupService.cleanupExpiredRefreshTokens();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMs < 1000, "took " + elapsedMs + " ms");
+        double rows = meterRegistry.counter("token.cleanup.rows", "table", "refresh_token").count();
+        assertTrue(rows >= 2000 && rows <= 5000, "deleted " + rows);
+    }
+
+    @Test
+    void cleanupOldRevokedRefreshTokens_shouldSwallowFailure_soTheSchedulerKeepsRunning() {
+        Mockito.when(refreshTokenRepository.deleteRevokedExpiredBatch(Mockito.eq(true), Mockito.any(), Mockito.anyInt()))
+                .thenThrow(new IllegalStateException("connection lost"));
+
+        assertDoesNotThrow(() -> tokenCleanupService.cleanupOldRevokedRefreshTokens());
+    }
+}
@@ -0,0 +1,60 @@
+package com.arslanca.dev.core.utilities.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex(3f, 2f, 1f);
+        index.put(1, "Notes on Postgres", "Databases", "Vacuum, indexes and a little about virtual threads.");
+        index.put(2, "Virtual threads in Spring", "Java", "Virtual threads make blocking code cheap again.");
+        index.put(3, "Sıralama algoritmaları", "Genel", "Hızlı sıralama & birleştirme <script>");
+    }
+
+    @Test
+    void search_shouldRankTitleMatchesFirst_whenSeveralPostsMatch() {
+        InvertedIndex.Result result = index.search("virtual threads", 10);
+
+        assertEquals(2, result.total());
+        assertEquals(List.of(2, 1), result.hits().stream().map(InvertedIndex.Hit::id).toList());
+    }
+
+    @Test
+    void search_shouldMatchWithoutTurkishCharacters_whenQueryIsAscii() {
+        assertEquals(List.of(3), index.search("siralama", 10).hits().stream().map(InvertedIndex.Hit::id).toList());
+    }
+
+    @Test
+    void search_shouldNotFindPost_whenItWasRemovedOrReplaced() {
+        index.remove(2);
+        index.put(1, "Notes on Postgres", "Databases", "Vacuum and indexes.");
+
+        assertEquals(0, index.search("virtual", 10).total());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void snippet_shouldEscapeHtmlAndMarkMatches() {
+        String snippet = index.snippet(3, 2, "birlestirme", 200);
+
+        assertEquals("Hızlı sıralama &amp; <mark>birleştirme</mark> &lt;script&gt;", snippet);
+    }
+
+    @Test
+    void snippet_shouldOnlyUseStoredPrefix_whenFieldIsLongerThanStoredChars() {
+        InvertedIndex bounded = new InvertedIndex(40, 1f);
+        bounded.put(1, "virtual threads are cheap to block on, " + "filler ".repeat(50) + "postgres at the very end");
+
+        assertEquals(1, bounded.search("postgres", 10).total());
+        assertEquals("virtual threads are cheap to block on,…", bounded.snippet(1, 0, "postgres", 200));
+        assertEquals("<mark>virtual</mark> threads are cheap to block on,…", bounded.snippet(1, 0, "virtual", 200));
+    }
+}
@@ -0,0 +1,59 @@
+package com.arslanca.dev.core.utilities.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuggestionTrieTest {
+
+    private SuggestionTrie<String> trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new SuggestionTrie<>();
+        trie.put("Virtual threads in Spring", "blog:1");
+        trie.put("Spring Boot", "techStack:4");
+        trie.put("weather-cli", "repo:weather-cli");
+        trie.put("Şehir Rehberi", "pinnedProject:2");
+    }
+
+    @Test
+    void collect_shouldMatchAnyWordStart_whenPrefixIsInTheMiddle() {
+        // shorter completions come first
+        assertEquals(List.of("blog:1", "techStack:4"), collect("spr", 10));
+        assertEquals(List.of("blog:1"), collect("threads  in", 10));
+    }
+
+    @Test
+    void collect_shouldIgnoreCaseAndAccents_whenPrefixIsTypedPlainly() {
+        assertEquals(List.of("pinnedProject:2"), collect("sehir", 10));
+        assertEquals(List.of("repo:weather-cli"), collect("WEATHER CLI", 10));
+    }
+
+    @Test
+    void collect_shouldStopAtLimitWithoutDuplicates() {
+        trie.put("Spring Spring", "blog:7");
+
+        assertEquals(2, collect("s", 2).size());
+        assertEquals(List.of("blog:1", "blog:7", "techStack:4"), collect("spring", 10));
+    }
+
+    @Test
+    void remove_shouldDropAllKeysOfTheText_andKeepOthers() {
+        trie.remove("Spring Boot", "techStack:4");
+
+        assertEquals(List.of("blog:1"), collect("spring", 10));
+        assertEquals(List.of(), collect("boot", 10));
+        assertEquals(List.of("blog:1"), collect("virtual", 10));
+    }
+
+    private List<String> collect(String prefix, int limit) {
+        List<String> out = new ArrayList<>();
+        trie.collect(prefix, limit, out);
+        return out;
+    }
+}
@@ -0,0 +1,87 @@
+package com.arslanca.dev.core.utilities.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpiryWheelTest {
+
+    private static final long START = 1_700_000_000L;
+
+    private final List<Long> expired = new ArrayList<>();
+
+    @Test
+    void advance_shouldHandBackKey_onceItsExpiryIsReached() {
+        ExpiryWheel wheel = new ExpiryWheel(1, START);
+        wheel.schedule(7L, START + 10);
+
+        wheel.advance(START + 9, expired::add);
+        assertEquals(List.of(), expired);
+
+        wheel.advance(START + 10, expired::add);
+        wheel.advance(START + 200, expired::add);
+        assertEquals(List.of(7L), expired);
+    }
+
+    @Test
+    void advance_shouldRoundUpToTheNextTick_whenExpiryFallsInsideOne() {
+        ExpiryWheel wheel = new ExpiryWheel(60, START - START % 60);
+        wheel.schedule(1L, START - START % 60 + 61);
+
+        wheel.advance(START - START % 60 + 119, expired::add);
+        assertEquals(List.of(), expired);
+
+        wheel.advance(START - START % 60 + 120, expired::add);
+        assertEquals(List.of(1L), expired);
+    }
+
+    @Test
+    void schedule_shouldFireOnNextTick_whenKeyHasAlreadyExpired() {
+        ExpiryWheel wheel = new ExpiryWheel(1, START);
+        wheel.schedule(3L, START - 500);
+
+        wheel.advance(START, expired::add);
+        assertEquals(List.of(), expired);
+
+        wheel.advance(START + 1, expired::add);
+        assertEquals(List.of(3L), expired);
+    }
+
+    @Test
+    void advance_shouldCascadeFromOuterWheelAndOverflow_atTheRightTick() {
+        ExpiryWheel wheel = new ExpiryWheel(1, START);
+        long outer = START + 64 * 10 + 5;
+        long overflow = START + 64 * 64 * 3 + 17;
+        wheel.schedule(1L, outer);
+        wheel.schedule(2L, overflow);
+
+        wheel.advance(outer - 1, expired::add);
+        assertEquals(List.of(), expired);
+        wheel.advance(outer, expired::add);
+        assertEquals(List.of(1L), expired);
+
+        wheel.advance(overflow - 1, expired::add);
+        assertEquals(List.of(1L), expired);
+        wheel.advance(overflow, expired::add);
+        assertEquals(List.of(1L, 2L), expired);
+    }
+
+    @Test
+    void advance_shouldDeliverEveryKeyOnce_whenJumpingFarAhead() {
+        ExpiryWheel wheel = new ExpiryWheel(1, START);
+        for (long key = 0; key < 10_000; key++) {
+            wheel.schedule(key, START + 1 + key * 7);
+        }
+
+        wheel.advance(START + 100_000, expired::add);
+
+        assertEquals(10_000, expired.size());
+        assertEquals(10_000, expired.stream().distinct().count());
+        for (int i = 1; i < expired.size(); i++) {
+            assertTrue(expired.get(i - 1) < expired.get(i), "keys came back out of expiry order");
+        }
+    }
+}
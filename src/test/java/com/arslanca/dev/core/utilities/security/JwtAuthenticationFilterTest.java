@@ -0,0 +1,80 @@
+package com.arslanca.dev.core.utilities.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtAuthenticationFilterTest {
+
+    private TokenVersionService tokenVersionService;
+    private TokenRevocationService tokenRevocationService;
+    private JwtSecurity jwtSecurity;
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @BeforeEach
+    void setUp() {
+        tokenVersionService = Mockito.mock(TokenVersionService.class);
+        tokenRevocationService = Mockito.mock(TokenRevocationService.class);
+        jwtSecurity = new JwtSecurity(tokenVersionService);
+        ReflectionTestUtils.setField(jwtSecurity, "secretKey", Base64.getEncoder().encodeToString(new byte[64]));
+        jwtSecurity.init();
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtSecurity, tokenRevocationService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_shouldBuildPrincipalFromClaims_whenVersionIsCurrent() throws Exception {
+        Mockito.when(tokenVersionService.currentVersion("admin")).thenReturn(2);
+        Mockito.when(tokenVersionService.isCurrent("admin", 2)).thenReturn(true);
+        String token = jwtSecurity.generateToken(User.withUsername("admin").password("x").roles("ADMIN").build());
+
+        Authentication authentication = filter(token);
+
+        assertNotNull(authentication);
+        assertEquals("admin", authentication.getName());
+        assertEquals(List.of("ROLE_ADMIN"), authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+    }
+
+    @Test
+    void doFilter_shouldNotAuthenticate_whenVersionWasBumped() throws Exception {
+        Mockito.when(tokenVersionService.currentVersion("admin")).thenReturn(2);
+        Mockito.when(tokenVersionService.isCurrent("admin", 2)).thenReturn(false);
+        String token = jwtSecurity.generateToken(User.withUsername("admin").password("x").roles("ADMIN").build());
+
+        assertNull(filter(token));
+    }
+
+    @Test
+    void doFilter_shouldNotAuthenticate_whenTokenIsRevoked() throws Exception {
+        Mockito.when(tokenVersionService.isCurrent(Mockito.anyString(), Mockito.any())).thenReturn(true);
+        String token = jwtSecurity.generateToken(User.withUsername("admin").password("x").roles("ADMIN").build());
+        Mockito.when(tokenRevocationService.isRevoked(token)).thenReturn(true);
+
+        assertNull(filter(token));
+    }
+
+    private Authentication filter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/blogs");
+        request.addHeader("Authorization", "Bearer " + token);
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
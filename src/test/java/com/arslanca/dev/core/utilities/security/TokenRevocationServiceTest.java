@@ -0,0 +1,76 @@
+package com.arslanca.dev.core.utilities.security;
+
+import com.arslanca.dev.dataAccess.RevokedTokenRepository;
+import com.arslanca.dev.entities.RevokedToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenRevocationServiceTest {
+
+    private RevokedTokenRepository revokedTokenRepository;
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenRepository = Mockito.mock(RevokedTokenRepository.class);
+        Mockito.when(revokedTokenRepository.save(Mockito.any())).thenAnswer(invocation -> invocation.getArgument(0));
+        Mockito.when(revokedTokenRepository.existsByTokenHash(Mockito.any())).thenReturn(true);
+        tokenRevocationService = new TokenRevocationService(revokedTokenRepository);
+        ReflectionTestUtils.setField(tokenRevocationService, "maxEntries", 1000);
+        ReflectionTestUtils.setField(tokenRevocationService, "overlapMs", 60_000L);
+        tokenRevocationService.init();
+    }
+
+    @Test
+    void refresh_shouldSeeOtherNodesRevocation_whenItCommitsAfterALocalOne() {
+        Instant expiry = Instant.now().plusSeconds(3600);
+        tokenRevocationService.revoke("local-token", expiry);
+        // another node took a lower id and created_at but committed later
+        RevokedToken remote = row("remote-token", expiry, Instant.now().minusSeconds(5));
+        Mockito.when(revokedTokenRepository.findByCreatedAtAfterAndExpiryDateAfter(Mockito.any(), Mockito.any()))
+                .thenReturn(List.of(remote));
+
+        assertFalse(tokenRevocationService.isRevoked("remote-token"));
+        tokenRevocationService.refresh();
+
+        assertTrue(tokenRevocationService.isRevoked("remote-token"));
+        assertTrue(tokenRevocationService.isRevoked("local-token"));
+    }
+
+    @Test
+    void refresh_shouldReachBackByOverlap_beforePreviousPass() {
+        Instant before = Instant.now();
+        tokenRevocationService.refresh();
+        tokenRevocationService.refresh();
+
+        ArgumentCaptor<Instant> since = ArgumentCaptor.forClass(Instant.class);
+        Mockito.verify(revokedTokenRepository, Mockito.times(2))
+                .findByCreatedAtAfterAndExpiryDateAfter(since.capture(), Mockito.any());
+        assertFalse(since.getAllValues().get(1).isAfter(Instant.now().minusMillis(60_000)));
+        assertFalse(since.getAllValues().get(1).isBefore(before.minusMillis(60_000)));
+    }
+
+    @Test
+    void isRevoked_shouldNotQueryDatabase_whenFingerprintIsUnknown() {
+        assertFalse(tokenRevocationService.isRevoked("never-revoked"));
+
+        Mockito.verify(revokedTokenRepository, Mockito.never()).existsByTokenHash(Mockito.any());
+    }
+
+    private static RevokedToken row(String token, Instant expiry, Instant createdAt) {
+        return RevokedToken.builder()
+                .id(7)
+                .tokenHash(TokenFingerprints.sha256(token))
+                .expiryDate(expiry)
+                .createdAt(createdAt)
+                .build();
+    }
+}
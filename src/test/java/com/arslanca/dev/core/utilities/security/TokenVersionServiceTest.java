@@ -0,0 +1,77 @@
+package com.arslanca.dev.core.utilities.security;
+
+import com.arslanca.dev.dataAccess.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenVersionServiceTest {
+
+    private UserRepository userRepository;
+    private TokenVersionService tokenVersionService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = Mockito.mock(UserRepository.class);
+        tokenVersionService = new TokenVersionService(userRepository);
+        ReflectionTestUtils.setField(tokenVersionService, "ttlMs", 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void isCurrent_shouldUseCachedVersion_withinTtl() {
+        Mockito.when(userRepository.findTokenVersionByUsername("admin")).thenReturn(Optional.of(3));
+
+        assertTrue(tokenVersionService.isCurrent("admin", 3));
+        assertFalse(tokenVersionService.isCurrent("admin", 2));
+
+        Mockito.verify(userRepository, Mockito.times(1)).findTokenVersionByUsername("admin");
+    }
+
+    @Test
+    void bump_shouldPublishNewVersion_onlyAfterCommit() {
+        Mockito.when(userRepository.findTokenVersionByUsername("admin")).thenReturn(Optional.of(3));
+        assertTrue(tokenVersionService.isCurrent("admin", 3));
+
+        TransactionSynchronizationManager.initSynchronization();
+        Mockito.when(userRepository.findTokenVersionByUsername("admin")).thenReturn(Optional.of(4));
+        tokenVersionService.bump("admin");
+        Mockito.verify(userRepository).incrementTokenVersion("admin");
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertFalse(tokenVersionService.isCurrent("admin", 3));
+        assertTrue(tokenVersionService.isCurrent("admin", 4));
+        // the check after commit is served from the cache, not a reload that could race the commit
+        Mockito.verify(userRepository, Mockito.times(2)).findTokenVersionByUsername("admin");
+    }
+
+    @Test
+    void currentVersion_shouldNotCacheOlderVersion_whenSlowLoadFinishesAfterBump() {
+        Mockito.when(userRepository.findTokenVersionByUsername("admin")).thenReturn(Optional.of(4));
+        tokenVersionService.bump("admin");
+
+        // a load that read the row before the increment committed, finishing late
+        ReflectionTestUtils.setField(tokenVersionService, "ttlMs", 0L);
+        Mockito.when(userRepository.findTokenVersionByUsername("admin")).thenReturn(Optional.of(3));
+        tokenVersionService.currentVersion("admin");
+        ReflectionTestUtils.setField(tokenVersionService, "ttlMs", 60_000L);
+
+        assertTrue(tokenVersionService.isCurrent("admin", 4));
+        assertFalse(tokenVersionService.isCurrent("admin", 3));
+    }
+}
@@ -0,0 +1,68 @@
+package com.arslanca.dev.core.utilities.snapshot;
+
+import com.arslanca.dev.business.dto.responses.GithubRepoResponse;
+import com.arslanca.dev.business.dto.responses.StatsResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ObjectMapper objectMapper;
+    private SnapshotStore snapshotStore;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        snapshotStore = new SnapshotStore(objectMapper);
+        ReflectionTestUtils.setField(snapshotStore, "snapshotDir", tempDir.toString());
+    }
+
+    @Test
+    void load_shouldReturnSavedValue_whenSnapshotWasWritten() {
+        StatsResponse stats = StatsResponse.builder()
+                .isCodingNow(true)
+                .projectName("portfolio")
+                .totalSpentOnAllProjects("3 hrs")
+                .build();
+
+        snapshotStore.save("stats", stats);
+
+        assertEquals(Optional.of(stats), snapshotStore.load("stats", StatsResponse.class));
+    }
+
+    @Test
+    void load_shouldReadGenericLists_whenTypeIsParameterized() {
+        GithubRepoResponse repo = new GithubRepoResponse();
+        repo.setName("dev");
+        repo.setUrl("https://github.com/example/dev");
+
+        snapshotStore.save("repos", List.of(repo));
+
+        Optional<List<GithubRepoResponse>> loaded = snapshotStore.load("repos",
+                objectMapper.getTypeFactory().constructCollectionType(List.class, GithubRepoResponse.class));
+        assertEquals(List.of(repo), loaded.orElseThrow());
+    }
+
+    @Test
+    void load_shouldReturnEmpty_whenSnapshotIsMissingOrCorrupt() throws IOException {
+        assertTrue(snapshotStore.load("missing", StatsResponse.class).isEmpty());
+
+        Files.writeString(tempDir.resolve("broken.json"), "{\"isCodingNow\":");
+
+        assertTrue(snapshotStore.load("broken", StatsResponse.class).isEmpty());
+    }
+}
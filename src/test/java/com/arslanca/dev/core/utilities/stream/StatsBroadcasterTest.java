@@ -0,0 +1,141 @@
+package com.arslanca.dev.core.utilities.stream;
+
+import com.arslanca.dev.adapters.WakaTimeAdapter;
+import com.arslanca.dev.business.dto.responses.StatsResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatsBroadcasterTest {
+
+    private WakaTimeAdapter wakaTimeAdapter;
+    private StatsBroadcaster statsBroadcaster;
+    private Consumer<StatsResponse> listener;
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        wakaTimeAdapter = Mockito.mock(WakaTimeAdapter.class);
+        Mockito.when(wakaTimeAdapter.getCurrentStatus()).thenReturn(stats("idea", "portfolio"));
+        statsBroadcaster = new StatsBroadcaster(wakaTimeAdapter, new ObjectMapper()) {
+            @Override
+            SseEmitter createEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+        ReflectionTestUtils.setField(statsBroadcaster, "maxConnections", 2);
+        statsBroadcaster.init();
+        ArgumentCaptor<Consumer<StatsResponse>> captor = ArgumentCaptor.forClass(Consumer.class);
+        Mockito.verify(wakaTimeAdapter).addListener(captor.capture());
+        listener = captor.getValue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statsBroadcaster.shutdown();
+    }
+
+    @Test
+    void subscribe_shouldSendSnapshotThenDeltasInOrder_whenSendsAreSlow() throws Exception {
+        statsBroadcaster.subscribe();
+        RecordingEmitter emitter = emitters.get(0);
+        for (int i = 1; i <= 20; i++) {
+            listener.accept(stats("idea", "project-" + i));
+        }
+
+        List<String> events = emitter.awaitEvents(21);
+        assertTrue(events.get(0).contains("event:snapshot"));
+        for (int i = 1; i <= 20; i++) {
+            assertTrue(events.get(i).contains("\"projectName\":\"project-" + i + "\""), events.get(i));
+        }
+    }
+
+    @Test
+    void subscribe_shouldRefuse_whenConnectionCapIsReached() throws Exception {
+        assertNotNull(statsBroadcaster.subscribe());
+        assertNotNull(statsBroadcaster.subscribe());
+        assertNull(statsBroadcaster.subscribe());
+
+        // a failed send drops the subscriber and frees its slot
+        emitters.get(0).failing = true;
+        statsBroadcaster.sendKeepAlive();
+        emitters.get(1).awaitEvents(2);
+        long deadline = System.currentTimeMillis() + 2000;
+        SseEmitter next = null;
+        while (next == null && System.currentTimeMillis() < deadline) {
+            next = statsBroadcaster.subscribe();
+            Thread.sleep(10);
+        }
+        assertNotNull(next);
+    }
+
+    @Test
+    void sendKeepAlive_shouldSendComment_toEverySubscriber() throws Exception {
+        statsBroadcaster.subscribe();
+        statsBroadcaster.subscribe();
+
+        statsBroadcaster.sendKeepAlive();
+
+        for (RecordingEmitter emitter : emitters) {
+            assertEquals(":keep-alive\n\n", emitter.awaitEvents(2).get(1));
+        }
+    }
+
+    private static StatsResponse stats(String ide, String project) {
+        return StatsResponse.builder().isCodingNow(true).ideName(ide).projectName(project).build();
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private volatile boolean failing;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("broken pipe");
+            }
+            // uneven delays would reorder sends that are not serialised per subscriber
+            try {
+                Thread.sleep(events.size() % 3);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            StringBuilder text = new StringBuilder();
+            builder.build().forEach(part -> text.append(part.getData() instanceof String string ? string : asJson(part.getData())));
+            events.add(text.toString());
+        }
+
+        List<String> awaitEvents(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 2000;
+            while (events.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            assertTrue(events.size() >= count, "expected " + count + " events, got " + events);
+            return events;
+        }
+
+        private static String asJson(Object data) {
+            try {
+                return new ObjectMapper().writeValueAsString(data);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
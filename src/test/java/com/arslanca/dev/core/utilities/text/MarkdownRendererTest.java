@@ -0,0 +1,31 @@
+package com.arslanca.dev.core.utilities.text;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MarkdownRendererTest {
+
+    @Test
+    void render_shouldKeepLinesAndInlineImages_whenPostPredatesMarkdown() {
+        String post = "Bugün sunucuyu taşıdım.\nİlk adım: yedek almak.\n\nSonuç şöyle: https://cdn.example.com/shot.png?w=800 gayet iyi\nhttps://cdn.example.com/graph.webp";
+
+        assertEquals("<p>Bugün sunucuyu taşıdım.<br />\nİlk adım: yedek almak.</p>\n"
+                        + "<p>Sonuç şöyle: <img src=\"https://cdn.example.com/shot.png?w=800\" alt=\"\" loading=\"lazy\" /> gayet iyi<br />\n"
+                        + "<img src=\"https://cdn.example.com/graph.webp\" alt=\"\" loading=\"lazy\" /></p>\n",
+                MarkdownRenderer.render(post));
+    }
+
+    @Test
+    void render_shouldLeaveImageUrl_whenItIsAlreadyALink() {
+        String html = MarkdownRenderer.render("[ekran görüntüsü](https://cdn.example.com/shot.png) ve `https://cdn.example.com/a.png`");
+
+        assertEquals("<p><a rel=\"nofollow noopener noreferrer\" href=\"https://cdn.example.com/shot.png\">ekran görüntüsü</a>"
+                + " ve <code>https://cdn.example.com/a.png</code></p>\n", html);
+    }
+
+    @Test
+    void render_shouldEscapeRawHtml() {
+        assertEquals("<p>&lt;script&gt;alert(1)&lt;/script&gt;</p>\n", MarkdownRenderer.render("<script>alert(1)</script>"));
+    }
+}
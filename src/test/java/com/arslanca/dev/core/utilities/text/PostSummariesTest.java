@@ -0,0 +1,29 @@
+package com.arslanca.dev.core.utilities.text;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostSummariesTest {
+
+    @Test
+    void excerpt_shouldStripMarkdown_whenContentHasFormatting() {
+        String markdown = "# Virtual threads\n\nThey make **blocking** code [cheap](https://openjdk.org).\n\n```java\nThread.ofVirtual();\n```\n- no pools";
+
+        assertEquals("Virtual threads They make blocking code cheap. no pools", PostSummaries.excerpt(markdown));
+    }
+
+    @Test
+    void excerpt_shouldCutAtWordBoundary_whenContentIsLong() {
+        String excerpt = PostSummaries.excerpt("word ".repeat(100));
+
+        assertTrue(excerpt.length() <= PostSummaries.EXCERPT_LENGTH + 1);
+        assertTrue(excerpt.endsWith("word…"));
+    }
+
+    @Test
+    void readingMinutes_shouldRoundUp_whenWordsExceedOneMinute() {
+        assertEquals(1, PostSummaries.readingMinutes(null));
+        assertEquals(2, PostSummaries.readingMinutes("word ".repeat(201)));
+    }
+}
@@ -0,0 +1,161 @@
+package com.arslanca.dev.core.utilities.timeseries;
+
+import com.arslanca.dev.adapters.WakaTimeAdapter;
+import com.arslanca.dev.adapters.models.WakaTimeResponse;
+import com.arslanca.dev.business.dto.responses.StatsHistoryResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeartbeatHistoryTest {
+
+    // Monday 2026-10-12 09:00 UTC
+    private static final long MONDAY_NINE = Instant.parse("2026-10-12T09:00:00Z").getEpochSecond();
+
+    @TempDir
+    Path tempDir;
+
+    private WakaTimeAdapter wakaTimeAdapter;
+    private HeartbeatHistory heartbeatHistory;
+
+    @BeforeEach
+    void setUp() {
+        wakaTimeAdapter = Mockito.mock(WakaTimeAdapter.class);
+        heartbeatHistory = newHistory();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        heartbeatHistory.shutdown();
+    }
+
+    @Test
+    void history_shouldSplitDurationsAcrossHours_whenHeartbeatsSpanHourBoundary() {
+        heartbeatHistory.ingest(List.of(
+                heartbeat(MONDAY_NINE + 50 * 60, "portfolio", "IntelliJ"),
+                heartbeat(MONDAY_NINE + 60 * 60 + 5 * 60, "portfolio", "IntelliJ"),
+                heartbeat(MONDAY_NINE + 60 * 60 + 10 * 60, "api", "VS Code")));
+
+        StatsHistoryResponse hours = heartbeatHistory.history(Granularity.HOUR, HistoryDimension.PROJECT,
+                Instant.ofEpochSecond(MONDAY_NINE), Instant.ofEpochSecond(MONDAY_NINE + 2 * 3600));
+
+        assertEquals(2, hours.getBuckets().size());
+        assertEquals(600L, hours.getBuckets().get(0).getSeconds().get("portfolio"));
+        assertEquals(Instant.ofEpochSecond(MONDAY_NINE + 3600), hours.getBuckets().get(1).getStart());
+        assertEquals(600L, hours.getBuckets().get(1).getSeconds().get("portfolio"));
+        assertEquals(1200L, heartbeatHistory.history(Granularity.WEEK, HistoryDimension.EDITOR,
+                Instant.ofEpochSecond(MONDAY_NINE), Instant.ofEpochSecond(MONDAY_NINE)).getBuckets().get(0).getSeconds().get("IntelliJ"));
+    }
+
+    @Test
+    void ingest_shouldSkipIdleGapsAndDuplicates_whenHeartbeatsRepeat() {
+        List<WakaTimeResponse.Heartbeat> day = List.of(
+                heartbeat(MONDAY_NINE, "portfolio", "IntelliJ"),
+                heartbeat(MONDAY_NINE + 120, "portfolio", "IntelliJ"),
+                heartbeat(MONDAY_NINE + 120 + 3600, "portfolio", "IntelliJ"));
+
+        heartbeatHistory.ingest(day);
+        heartbeatHistory.ingest(day);
+
+        StatsHistoryResponse days = heartbeatHistory.history(Granularity.DAY, HistoryDimension.PROJECT,
+                Instant.ofEpochSecond(MONDAY_NINE), Instant.ofEpochSecond(MONDAY_NINE));
+        assertEquals(120L, days.getBuckets().get(0).getTotalSeconds());
+    }
+
+    @Test
+    void init_shouldRestoreRollups_whenLogIsReplayedWithTornTail() throws IOException {
+        heartbeatHistory.ingest(List.of(
+                heartbeat(MONDAY_NINE, "portfolio", "IntelliJ"),
+                heartbeat(MONDAY_NINE + 300, "api", "IntelliJ")));
+        heartbeatHistory.shutdown();
+        Files.write(tempDir.resolve("heartbeats.log"), new byte[]{'H', 0, 1}, StandardOpenOption.APPEND);
+
+        heartbeatHistory = newHistory();
+        heartbeatHistory.ingest(List.of(heartbeat(MONDAY_NINE + 600, "api", "IntelliJ")));
+
+        StatsHistoryResponse days = heartbeatHistory.history(Granularity.DAY, HistoryDimension.PROJECT,
+                Instant.ofEpochSecond(MONDAY_NINE), Instant.ofEpochSecond(MONDAY_NINE));
+        assertEquals(300L, days.getBuckets().get(0).getSeconds().get("portfolio"));
+        assertEquals(300L, days.getBuckets().get(0).getSeconds().get("api"));
+    }
+
+    @Test
+    void ingest_shouldHoldBackNewHeartbeats_whenBackfillFetchFails() {
+        heartbeatHistory.ingest(List.of(heartbeat(MONDAY_NINE, "portfolio", "IntelliJ")));
+        long wednesdayNine = MONDAY_NINE + 2 * 86400;
+        List<WakaTimeResponse.Heartbeat> wednesday = List.of(
+                heartbeat(wednesdayNine, "api", "IntelliJ"),
+                heartbeat(wednesdayNine + 300, "api", "IntelliJ"));
+        Mockito.when(wakaTimeAdapter.fetchHeartbeats(LocalDate.of(2026, 10, 12))).thenReturn(response());
+        Mockito.when(wakaTimeAdapter.fetchHeartbeats(LocalDate.of(2026, 10, 13)))
+                .thenThrow(new IllegalStateException("upstream unavailable"))
+                .thenReturn(response(
+                        heartbeat(MONDAY_NINE + 86400, "portfolio", "IntelliJ"),
+                        heartbeat(MONDAY_NINE + 86400 + 600, "portfolio", "IntelliJ")));
+
+        heartbeatHistory.ingest(wednesday);
+        assertTrue(days(MONDAY_NINE + 86400, wednesdayNine).getBuckets().isEmpty());
+
+        heartbeatHistory.ingest(wednesday);
+        StatsHistoryResponse days = days(MONDAY_NINE + 86400, wednesdayNine);
+        assertEquals(2, days.getBuckets().size());
+        assertEquals(600L, days.getBuckets().get(0).getSeconds().get("portfolio"));
+        assertEquals(300L, days.getBuckets().get(1).getSeconds().get("api"));
+    }
+
+    @Test
+    void ingest_shouldBackfillDaysOfConfiguredTimezone() {
+        ReflectionTestUtils.setField(heartbeatHistory, "timezone", ZoneId.of("America/Los_Angeles"));
+        // Monday 02:00 in Los Angeles
+        heartbeatHistory.ingest(List.of(heartbeat(MONDAY_NINE, "portfolio", "IntelliJ")));
+        Mockito.when(wakaTimeAdapter.fetchHeartbeats(Mockito.any())).thenReturn(response());
+
+        // Wednesday 02:00 UTC, still Tuesday evening in Los Angeles
+        heartbeatHistory.ingest(List.of(heartbeat(MONDAY_NINE + 41 * 3600, "portfolio", "IntelliJ")));
+
+        Mockito.verify(wakaTimeAdapter).fetchHeartbeats(LocalDate.of(2026, 10, 12));
+        Mockito.verify(wakaTimeAdapter, Mockito.never()).fetchHeartbeats(LocalDate.of(2026, 10, 13));
+    }
+
+    private StatsHistoryResponse days(long fromEpochSecond, long toEpochSecond) {
+        return heartbeatHistory.history(Granularity.DAY, HistoryDimension.PROJECT,
+                Instant.ofEpochSecond(fromEpochSecond), Instant.ofEpochSecond(toEpochSecond));
+    }
+
+    private HeartbeatHistory newHistory() {
+        HeartbeatHistory history = new HeartbeatHistory(wakaTimeAdapter);
+        ReflectionTestUtils.setField(history, "historyFile", tempDir.resolve("heartbeats.log").toString());
+        ReflectionTestUtils.setField(history, "timezone", ZoneOffset.UTC);
+        history.init();
+        return history;
+    }
+
+    private static WakaTimeResponse response(WakaTimeResponse.Heartbeat... heartbeats) {
+        WakaTimeResponse response = new WakaTimeResponse();
+        response.setData(List.of(heartbeats));
+        return response;
+    }
+
+    private static WakaTimeResponse.Heartbeat heartbeat(long epochSecond, String project, String editor) {
+        WakaTimeResponse.Heartbeat heartbeat = new WakaTimeResponse.Heartbeat();
+        heartbeat.setTime((double) epochSecond);
+        heartbeat.setProject(project);
+        heartbeat.setEditor(editor);
+        return heartbeat;
+    }
+}
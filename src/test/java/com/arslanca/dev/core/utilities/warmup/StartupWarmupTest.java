@@ -0,0 +1,71 @@
+package com.arslanca.dev.core.utilities.warmup;
+
+import com.arslanca.dev.adapters.GithubAdapter;
+import com.arslanca.dev.adapters.WakaTimeAdapter;
+import com.arslanca.dev.business.abstracts.BlogSearchService;
+import com.arslanca.dev.business.abstracts.SuggestionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartupWarmupTest {
+
+    private GithubAdapter githubAdapter;
+    private WakaTimeAdapter wakaTimeAdapter;
+    private BlogSearchService blogSearchService;
+    private StartupWarmup startupWarmup;
+
+    @BeforeEach
+    void setUp() {
+        githubAdapter = Mockito.mock(GithubAdapter.class);
+        wakaTimeAdapter = Mockito.mock(WakaTimeAdapter.class);
+        blogSearchService = Mockito.mock(BlogSearchService.class);
+        startupWarmup = new StartupWarmup(githubAdapter, wakaTimeAdapter, blogSearchService, Mockito.mock(SuggestionService.class));
+        ReflectionTestUtils.setField(startupWarmup, "budgetMs", 500L);
+    }
+
+    @Test
+    void health_shouldBeOutOfService_untilWarmUpHasRun() {
+        assertEquals(Status.OUT_OF_SERVICE, startupWarmup.health().getStatus());
+    }
+
+    @Test
+    void warmUp_shouldBecomeReady_whenCriticalTasksArePrimed() {
+        Mockito.when(githubAdapter.isPrimed()).thenReturn(true);
+        Mockito.when(wakaTimeAdapter.isPrimed()).thenReturn(true);
+
+        long start = System.nanoTime();
+        startupWarmup.warmUp();
+
+        Health health = startupWarmup.health();
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals("done", health.getDetails().get("github"));
+        assertEquals("done", health.getDetails().get("stats"));
+        assertEquals("done", health.getDetails().get("blogSearch"));
+        assertTrue(System.nanoTime() - start < 400_000_000L);
+    }
+
+    @Test
+    void warmUp_shouldBecomeReadyWithinBudget_whenUpstreamNeverPrimes() {
+        Mockito.when(githubAdapter.isPrimed()).thenReturn(false);
+        Mockito.when(wakaTimeAdapter.isPrimed()).thenReturn(true);
+        Mockito.doThrow(new IllegalStateException("index failed")).when(blogSearchService).rebuild();
+
+        long start = System.nanoTime();
+        startupWarmup.warmUp();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        Health health = startupWarmup.health();
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals("timed_out", health.getDetails().get("github"));
+        assertEquals("done", health.getDetails().get("stats"));
+        assertEquals("failed", health.getDetails().get("blogSearch"));
+        assertTrue(elapsedMs >= 500 && elapsedMs < 2000, "took " + elapsedMs + " ms");
+        Mockito.verify(githubAdapter, Mockito.atLeastOnce()).getRepos();
+    }
+}